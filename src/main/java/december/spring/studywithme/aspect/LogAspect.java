@@ -7,10 +7,13 @@ import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.*;
 import org.aspectj.lang.reflect.MethodSignature;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.proxy.LazyInitializer;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
+import java.util.Arrays;
 import java.util.Objects;
 
 @Slf4j
@@ -38,7 +41,8 @@ public class LogAspect {
     // service
     @Before("service()")
     public void doBefore(JoinPoint joinPoint) throws Throwable {
-        log.info("[Entering] {} with arguments: {}", joinPoint.getSignature().getName(), joinPoint.getArgs());
+        log.info("[Entering] {} with arguments: {}", joinPoint.getSignature().getName(),
+                Arrays.stream(joinPoint.getArgs()).map(this::describe).toList());
     }
 
     @After("service()")
@@ -65,7 +69,16 @@ public class LogAspect {
         }
         long finish = System.currentTimeMillis();
         long time = finish - start;
-        log.info("[Completed] {} -> {} in {} ms with result: {}", signature.getDeclaringTypeName(), signature.getName(), time, result);
+        log.info("[Completed] {} -> {} in {} ms with result: {}", signature.getDeclaringTypeName(), signature.getName(), time, describe(result));
         return result;
     }
+
+    // 초기화되지 않은 지연 로딩 프록시는 toString 으로 조회되지 않도록 엔티티 이름과 식별자만 출력
+    private Object describe(Object value) {
+        if (value instanceof HibernateProxy proxy && proxy.getHibernateLazyInitializer().isUninitialized()) {
+            LazyInitializer initializer = proxy.getHibernateLazyInitializer();
+            return initializer.getEntityName() + "#" + initializer.getInternalIdentifier();
+        }
+        return value;
+    }
 }
@@ -0,0 +1,82 @@
+package december.spring.studywithme.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import december.spring.studywithme.dto.PostResponseDTO;
+import december.spring.studywithme.event.PostChangedEvent;
+import december.spring.studywithme.event.PostCountsRepairedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * 게시글 단일 조회 결과를 보관하는 로컬 캐시
+ * Caffeine (W-TinyLFU) 기반으로 최대 개수와 TTL 을 제한하며, 조회 결과는 변경 불가능한 PostResponseDTO 로 보관한다.
+ * 히트 / 미스 / 제거 통계는 /actuator/metrics 의 cache.* 메트릭 (cache=post) 으로 확인할 수 있다.
+ */
+@Component
+public class PostCache {
+	private final Cache<Long, PostResponseDTO> cache;
+
+	public PostCache(@Value("${post.cache.maximum-size:10000}") long maximumSize,
+					 @Value("${post.cache.expire-after-write:60s}") Duration expireAfterWrite,
+					 MeterRegistry meterRegistry) {
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(maximumSize)
+			.expireAfterWrite(expireAfterWrite)
+			.recordStats()
+			.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, "post");
+	}
+
+	/**
+	 * 캐시 조회, 없으면 loader 로 조회 후 저장
+	 * @param id 게시글 ID
+	 * @param loader 캐시 미스 시 게시글을 조회할 함수
+	 * @return PostResponseDTO 게시글 정보
+	 */
+	public PostResponseDTO get(Long id, Function<Long, PostResponseDTO> loader) {
+		return cache.get(id, loader);
+	}
+
+	/**
+	 * 캐시 무효화
+	 * @param id 게시글 ID
+	 */
+	public void evict(Long id) {
+		cache.invalidate(id);
+	}
+
+	/**
+	 * 캐시 통계 조회
+	 * @return CacheStats 히트 / 미스 / 제거 통계
+	 */
+	public CacheStats stats() {
+		return cache.stats();
+	}
+
+	/**
+	 * 게시글 변경 트랜잭션이 커밋된 후 캐시 무효화
+	 * (커밋 전에 무효화하면 다른 요청이 변경 전 데이터를 다시 캐시할 수 있다)
+	 * @param event 게시글 변경 이벤트
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void handlePostChanged(PostChangedEvent event) {
+		evict(event.getPostId());
+	}
+
+	/**
+	 * 좋아요 / 댓글 수 일괄 보정 후 전체 캐시 무효화
+	 * @param event 게시글 수 보정 이벤트
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void handlePostCountsRepaired(PostCountsRepairedEvent event) {
+		cache.invalidateAll();
+	}
+}
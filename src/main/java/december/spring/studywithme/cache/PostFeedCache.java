@@ -0,0 +1,178 @@
+package december.spring.studywithme.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
+import december.spring.studywithme.config.ReplicationContext;
+import december.spring.studywithme.dto.PostPageResponseDTO;
+import december.spring.studywithme.dto.PostPreviewResponseDTO;
+import december.spring.studywithme.entity.PostSortType;
+import december.spring.studywithme.event.PostChangedEvent;
+import december.spring.studywithme.event.PostCountsRepairedEvent;
+import december.spring.studywithme.repository.PostRepository;
+import december.spring.studywithme.service.PostCountService;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 기간 조건이 없는 전체 게시글 앞쪽 페이지의 스냅샷
+ * 기본 정렬 기준(createdAt, likes)별로 앞쪽 N 페이지를 미리 직렬화해 두고, 게시글 변경 시 별도 스레드에서 다시 만든 뒤
+ * 참조를 한 번에 교체한다. 조회 요청은 잠금 없이 현재 스냅샷을 읽기만 한다.
+ * 각 페이지는 내용의 해시를 ETag 로 함께 보관하여, 조건부 조회에 별도의 버전 조회 없이 응답할 수 있다.
+ * 게시글 변경 이벤트는 변경이 일어난 서버에서만 발행되므로, 다른 서버의 변경과 이벤트 없이 바뀐 값(좋아요 / 댓글 수)이
+ * 최대 post.feed.max-age 안에 반영되도록 주기적으로도 다시 만든다.
+ */
+@Slf4j
+@Component
+public class PostFeedCache {
+	private static final int PAGE_SIZE = 10;
+
+	private final PostRepository postRepository;
+	private final PostCountService postCountService;
+	private final ObjectMapper objectMapper;
+	private final int pages;
+	private final Duration rebuildDelay;
+
+	private final AtomicReference<Map<String, FeedPage>> snapshot = new AtomicReference<>(Map.of());
+	private final AtomicBoolean rebuildScheduled = new AtomicBoolean(false);
+	private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "post-feed-rebuild");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	public PostFeedCache(PostRepository postRepository, PostCountService postCountService, ObjectMapper objectMapper,
+						 @Value("${post.feed.pages:5}") int pages,
+						 @Value("${post.feed.rebuild-delay:200ms}") Duration rebuildDelay) {
+		this.postRepository = postRepository;
+		this.postCountService = postCountService;
+		this.objectMapper = objectMapper;
+		this.pages = pages;
+		this.rebuildDelay = rebuildDelay;
+	}
+
+	/**
+	 * 스냅샷 페이지 조회
+	 * @param sortBy 게시글 정렬 기준
+	 * @param page 접근할 페이지
+	 * @return 직렬화된 PostPageResponseDTO 와 ETag (스냅샷에 없으면 빈 값)
+	 */
+	public Optional<FeedPage> find(String sortBy, Integer page) {
+		return Optional.ofNullable(snapshot.get().get(key(sortBy, page)));
+	}
+
+	/**
+	 * 스냅샷 재생성 요청
+	 * 이미 예약된 재생성이 있으면 그 재생성에 합쳐지므로, 짧은 시간 동안의 연속된 변경은 한 번의 재생성으로 처리된다.
+	 */
+	public void requestRebuild() {
+		if (rebuildScheduled.compareAndSet(false, true)) {
+			// 복제 지연으로 변경 전 데이터를 읽지 않도록 primary 에서 조회
+			executor.schedule(() -> ReplicationContext.runOnPrimary(this::rebuild), rebuildDelay.toMillis(), TimeUnit.MILLISECONDS);
+		}
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void handleApplicationReady() {
+		requestRebuild();
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void handlePostChanged(PostChangedEvent event) {
+		requestRebuild();
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void handlePostCountsRepaired(PostCountsRepairedEvent event) {
+		requestRebuild();
+	}
+
+	/**
+	 * 다른 서버의 변경을 반영하기 위해 주기적으로 스냅샷 재생성
+	 */
+	@Scheduled(fixedDelayString = "${post.feed.max-age:PT30S}")
+	public void scheduledRebuild() {
+		requestRebuild();
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdownNow();
+	}
+
+	/**
+	 * 스냅샷 재생성 후 교체
+	 */
+	void rebuild() {
+		// 재생성 도중 발생한 변경은 다음 재생성으로 예약되도록 먼저 플래그를 해제
+		rebuildScheduled.set(false);
+
+		try {
+			Map<String, FeedPage> pageMap = new HashMap<>();
+			long totalElements = postCountService.countPosts(null, null);
+			int lastPage = Math.min(pages, (int) Math.ceil((double) totalElements / PAGE_SIZE));
+
+			for (PostSortType sortType : PostSortType.values()) {
+				for (int page = 1; page <= lastPage; page++) {
+					Pageable pageable = PageRequest.of(page - 1, PAGE_SIZE, sortType.toSort());
+					Slice<PostPreviewResponseDTO> postSlice = postRepository.findPostSlice(pageable);
+
+					PostPageResponseDTO pageResponseDto = new PostPageResponseDTO(page,
+						new PageImpl<>(postSlice.getContent(), pageable, totalElements));
+					String json = objectMapper.writeValueAsString(pageResponseDto);
+					pageMap.put(key(sortType.getProperty(), page), new FeedPage(pageResponseDto, json));
+				}
+			}
+
+			snapshot.set(Map.copyOf(pageMap));
+		} catch (JsonProcessingException | RuntimeException e) {
+			// 변경 전 스냅샷으로 계속 응답하지 않도록 비우고, 다음 재생성 전까지는 DB 에서 조회
+			snapshot.set(Map.of());
+			log.warn("[PostFeedCache] 스냅샷 재생성 실패 : {}", e.getMessage());
+		}
+	}
+
+	private String key(String sortBy, Integer page) {
+		return sortBy + ":" + page;
+	}
+
+	/**
+	 * 스냅샷 페이지 (직렬화된 본문과 본문 해시로 만든 ETag)
+	 * 로그인한 사용자에게는 좋아요 여부를 표시해야 하므로 직렬화 전 페이지도 함께 보관한다.
+	 */
+	@Getter
+	public static class FeedPage {
+		private final PostPageResponseDTO page;
+		private final RawValue body;
+		private final String eTag;
+
+		FeedPage(PostPageResponseDTO page, String json) {
+			this.page = page;
+			this.body = new RawValue(json);
+			this.eTag = "feed-" + DigestUtils.md5DigestAsHex(json.getBytes(StandardCharsets.UTF_8));
+		}
+	}
+}
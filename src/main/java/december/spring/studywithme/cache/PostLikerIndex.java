@@ -0,0 +1,228 @@
+package december.spring.studywithme.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import december.spring.studywithme.dto.LikerDTO;
+import december.spring.studywithme.event.CommentLikedEvent;
+import december.spring.studywithme.event.PostLikedEvent;
+import december.spring.studywithme.repository.CommentLikeRepository;
+import december.spring.studywithme.repository.PostLikeRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 / 댓글별 좋아요를 누른 사용자 ID 색인 (로컬 캐시)
+ * 대상마다 좋아요를 누른 사용자 ID 를 압축 비트맵(Roaring)으로 보관하여, 목록 한 페이지의 좋아요 여부를
+ * 대상마다 post_like / comment_like 를 조회하지 않고 메모리에서 한 번에 확인한다.
+ * 색인에 없는 대상은 한 번의 쿼리로 함께 적재하고, 이후 좋아요 등록 / 취소는 커밋 후 이벤트로 반영한다.
+ * 여러 서버에서 실행하는 경우 다른 서버의 좋아요는 PostLikerRedisRelay 로 전달받아 반영하고,
+ * 전달이 꺼져 있거나 전달받지 못한 좋아요는 expire-after-write 가 지나 다시 적재될 때 반영된다.
+ */
+@Component
+public class PostLikerIndex {
+	private final LikerCache postLikers;
+	private final LikerCache commentLikers;
+
+	public PostLikerIndex(PostLikeRepository postLikeRepository, CommentLikeRepository commentLikeRepository,
+						  @Value("${post.liker-index.maximum-size:10000}") long maximumSize,
+						  @Value("${post.liker-index.expire-after-write:10m}") Duration expireAfterWrite,
+						  MeterRegistry meterRegistry) {
+		this.postLikers = new LikerCache(createCache(maximumSize, expireAfterWrite), postLikeRepository::findLikersByPostIdIn);
+		this.commentLikers = new LikerCache(createCache(maximumSize, expireAfterWrite), commentLikeRepository::findLikersByCommentIdIn);
+		CaffeineCacheMetrics.monitor(meterRegistry, postLikers.bitmaps, "post-likers");
+		CaffeineCacheMetrics.monitor(meterRegistry, commentLikers.bitmaps, "comment-likers");
+	}
+
+	/**
+	 * 사용자가 좋아요를 누른 게시글 ID 조회
+	 * @param userId 사용자 ID
+	 * @param postIds 확인할 게시글 ID 목록
+	 * @return 좋아요를 누른 게시글 ID
+	 */
+	public Set<Long> findLikedPostIds(Long userId, Collection<Long> postIds) {
+		return postLikers.findLiked(userId, postIds);
+	}
+
+	/**
+	 * 사용자가 좋아요를 누른 댓글 ID 조회
+	 * @param userId 사용자 ID
+	 * @param commentIds 확인할 댓글 ID 목록
+	 * @return 좋아요를 누른 댓글 ID
+	 */
+	public Set<Long> findLikedCommentIds(Long userId, Collection<Long> commentIds) {
+		return commentLikers.findLiked(userId, commentIds);
+	}
+
+	/**
+	 * 좋아요 등록 / 취소 트랜잭션이 커밋된 후 게시글 색인 반영 (색인에 없는 게시글은 다음 조회 시 적재된다)
+	 * @param event 게시글 좋아요 이벤트
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void handlePostLiked(PostLikedEvent event) {
+		postLikers.update(event.getPostId(), new LikeChange(event.getUserId(), event.isLiked()));
+	}
+
+	/**
+	 * 좋아요 등록 / 취소 트랜잭션이 커밋된 후 댓글 색인 반영
+	 * @param event 댓글 좋아요 이벤트
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void handleCommentLiked(CommentLikedEvent event) {
+		commentLikers.update(event.getCommentId(), new LikeChange(event.getUserId(), event.isLiked()));
+	}
+
+	/**
+	 * 좋아요 여부를 표시한 목록의 ETag (같은 목록이라도 좋아요를 누른 대상이 다르면 다른 ETag)
+	 * @param eTag 목록 ETag
+	 * @param likedIds 좋아요를 누른 대상 ID
+	 * @return 좋아요 여부를 반영한 ETag
+	 */
+	public static String toLikedETag(String eTag, Set<Long> likedIds) {
+		String liked = likedIds.stream().sorted().map(String::valueOf).collect(Collectors.joining(","));
+		return eTag + "-liked-" + DigestUtils.md5DigestAsHex(liked.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static Cache<Long, Roaring64Bitmap> createCache(long maximumSize, Duration expireAfterWrite) {
+		return Caffeine.newBuilder()
+			.maximumSize(maximumSize)
+			.expireAfterWrite(expireAfterWrite)
+			.recordStats()
+			.build();
+	}
+
+	/**
+	 * 대상별 좋아요를 누른 사용자 비트맵 캐시
+	 * 적재 쿼리가 실행되는 동안 커밋된 좋아요 변경은 아직 캐시에 비트맵이 없어 반영할 수 없으므로,
+	 * 적재 중인 대상의 변경을 기록해 두었다가 적재된 비트맵에 순서대로 다시 반영한다.
+	 * 비트맵은 스레드 안전하지 않으므로 확인 / 변경 시 비트맵 단위로 동기화한다.
+	 */
+	private static final class LikerCache {
+		private final Cache<Long, Roaring64Bitmap> bitmaps;
+		private final Function<Set<Long>, List<LikerDTO>> loader;
+		private final Map<Long, Loading> loadings = new ConcurrentHashMap<>();
+
+		private LikerCache(Cache<Long, Roaring64Bitmap> bitmaps, Function<Set<Long>, List<LikerDTO>> loader) {
+			this.bitmaps = bitmaps;
+			this.loader = loader;
+		}
+
+		/**
+		 * 대상별 비트맵에서 사용자 ID 확인 (색인에 없는 대상은 loader 한 번으로 함께 적재)
+		 */
+		private Set<Long> findLiked(Long userId, Collection<Long> ids) {
+			if (ids.isEmpty()) {
+				return Set.of();
+			}
+
+			Set<Long> loadingIds = new HashSet<>();
+			Map<Long, Roaring64Bitmap> found = Map.of();
+			try {
+				found = bitmaps.getAll(ids, missing -> {
+					Set<Long> missingIds = Set.copyOf(missing);
+					missingIds.forEach(this::startLoading);
+					loadingIds.addAll(missingIds);
+					return load(missingIds);
+				});
+			} finally {
+				for (Long id : loadingIds) {
+					finishLoading(id, found.get(id));
+				}
+			}
+
+			Set<Long> likedIds = new HashSet<>();
+			found.forEach((id, bitmap) -> {
+				synchronized (bitmap) {
+					if (bitmap.contains(userId)) {
+						likedIds.add(id);
+					}
+				}
+			});
+			return likedIds;
+		}
+
+		/**
+		 * 좋아요 변경 반영
+		 * 적재 중인 대상이면 변경을 기록하고, 비트맵이 있으면 바로 반영한다.
+		 * (기록한 뒤 비트맵을 확인하므로, 적재가 끝나 기록이 지워진 뒤의 변경은 캐시에 들어간 비트맵에 반영된다)
+		 */
+		private void update(Long id, LikeChange change) {
+			loadings.computeIfPresent(id, (key, loading) -> {
+				loading.changes.add(change);
+				return loading;
+			});
+
+			Roaring64Bitmap bitmap = bitmaps.getIfPresent(id);
+			if (bitmap != null) {
+				change.applyTo(bitmap);
+			}
+		}
+
+		private Map<Long, Roaring64Bitmap> load(Set<Long> ids) {
+			Map<Long, Roaring64Bitmap> loaded = new HashMap<>();
+			ids.forEach(id -> loaded.put(id, new Roaring64Bitmap()));
+			for (LikerDTO liker : loader.apply(ids)) {
+				loaded.get(liker.getTargetId()).addLong(liker.getUserId());
+			}
+			loaded.values().forEach(Roaring64Bitmap::runOptimize);
+			return loaded;
+		}
+
+		private void startLoading(Long id) {
+			loadings.compute(id, (key, loading) -> {
+				Loading started = loading != null ? loading : new Loading();
+				started.loaders++;
+				return started;
+			});
+		}
+
+		/**
+		 * 적재 중 기록된 변경을 적재된 비트맵에 반영하고, 같은 대상을 적재하는 다른 요청이 없으면 기록 삭제
+		 */
+		private void finishLoading(Long id, Roaring64Bitmap bitmap) {
+			loadings.computeIfPresent(id, (key, loading) -> {
+				if (bitmap != null) {
+					loading.changes.forEach(change -> change.applyTo(bitmap));
+				}
+				return --loading.loaders > 0 ? loading : null;
+			});
+		}
+	}
+
+	/**
+	 * 적재 중인 대상의 적재 요청 수와 그동안 커밋된 좋아요 변경
+	 */
+	private static final class Loading {
+		private int loaders;
+		private final List<LikeChange> changes = new ArrayList<>();
+	}
+
+	private record LikeChange(Long userId, boolean liked) {
+		private void applyTo(Roaring64Bitmap bitmap) {
+			synchronized (bitmap) {
+				if (liked) {
+					bitmap.addLong(userId);
+				} else {
+					bitmap.removeLong(userId);
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,117 @@
+package december.spring.studywithme.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import december.spring.studywithme.event.CommentLikedEvent;
+import december.spring.studywithme.event.PostLikedEvent;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * 서버 간 좋아요 색인 변경 전달 (post.liker-index.relay.enabled=true 인 경우에만 사용)
+ * 커밋된 좋아요 등록 / 취소를 Redis pub/sub 채널로 발행하고, 다른 서버는 채널에서 받은 변경을 각자의 PostLikerIndex 에 반영한다.
+ * 발행한 서버는 이미 이벤트로 반영했으므로 자신이 발행한 변경은 무시한다.
+ * pub/sub 은 전달을 보장하지 않으므로, 놓친 변경은 expire-after-write 가 지나 다시 적재될 때 반영된다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "post.liker-index.relay.enabled", havingValue = "true")
+public class PostLikerRedisRelay implements MessageListener {
+	static final String CHANNEL = "post:likers";
+
+	private final StringRedisTemplate redisTemplate;
+	private final PostLikerIndex postLikerIndex;
+	private final ObjectMapper objectMapper;
+	private final String nodeId = UUID.randomUUID().toString();
+
+	public PostLikerRedisRelay(StringRedisTemplate redisTemplate, RedisMessageListenerContainer redisMessageListenerContainer,
+							   PostLikerIndex postLikerIndex, ObjectMapper objectMapper) {
+		this.redisTemplate = redisTemplate;
+		this.postLikerIndex = postLikerIndex;
+		this.objectMapper = objectMapper;
+		redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+	}
+
+	/**
+	 * 좋아요 등록 / 취소 트랜잭션이 커밋된 후 게시글 좋아요 변경 발행
+	 * @param event 게시글 좋아요 이벤트
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void handlePostLiked(PostLikedEvent event) {
+		publish(new RelayMessage(nodeId, event.getPostId(), null, event.getUserId(), event.isLiked()));
+	}
+
+	/**
+	 * 좋아요 등록 / 취소 트랜잭션이 커밋된 후 댓글 좋아요 변경 발행
+	 * @param event 댓글 좋아요 이벤트
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void handleCommentLiked(CommentLikedEvent event) {
+		publish(new RelayMessage(nodeId, event.getPostId(), event.getCommentId(), event.getUserId(), event.isLiked()));
+	}
+
+	/**
+	 * 다른 서버에서 받은 좋아요 변경을 이 서버의 색인에 반영
+	 * @param message Redis 메시지
+	 * @param pattern 구독 패턴
+	 */
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		try {
+			RelayMessage relayMessage = objectMapper.readValue(new String(message.getBody(), StandardCharsets.UTF_8), RelayMessage.class);
+			if (nodeId.equals(relayMessage.getNodeId())) {
+				return;
+			}
+
+			if (relayMessage.getCommentId() == null) {
+				postLikerIndex.handlePostLiked(new PostLikedEvent(relayMessage.getPostId(), relayMessage.getUserId(), relayMessage.isLiked()));
+			} else {
+				postLikerIndex.handleCommentLiked(new CommentLikedEvent(relayMessage.getPostId(), relayMessage.getCommentId(),
+					relayMessage.getUserId(), relayMessage.isLiked()));
+			}
+		} catch (JsonProcessingException e) {
+			log.warn("[PostLikerRedisRelay] 좋아요 변경 수신 실패 : {}", e.getMessage());
+		}
+	}
+
+	private void publish(RelayMessage message) {
+		try {
+			redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(message));
+		} catch (JsonProcessingException | RuntimeException e) {
+			log.warn("[PostLikerRedisRelay] 좋아요 변경 발행 실패 : {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * 채널로 주고받는 좋아요 변경 (댓글 좋아요가 아니면 commentId 는 null)
+	 */
+	@Getter
+	@NoArgsConstructor
+	static class RelayMessage {
+		private String nodeId;
+		private Long postId;
+		private Long commentId;
+		private Long userId;
+		private boolean liked;
+
+		RelayMessage(String nodeId, Long postId, Long commentId, Long userId, boolean liked) {
+			this.nodeId = nodeId;
+			this.postId = postId;
+			this.commentId = commentId;
+			this.userId = userId;
+			this.liked = liked;
+		}
+	}
+}
@@ -0,0 +1,126 @@
+package december.spring.studywithme.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import december.spring.studywithme.dto.PostPageResponseDTO;
+import december.spring.studywithme.event.PostContentChangedEvent;
+import december.spring.studywithme.event.PostCountsRepairedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 기간 조건이 있는 게시글 페이지 조회 결과를 보관하는 Redis 캐시
+ * 키에 세대 번호를 포함하고, 게시글이 생성 / 수정 / 삭제되면 세대 번호만 증가시켜 이전 세대의 키를 모두 무효화한다.
+ * (이전 세대의 키는 조회되지 않다가 TTL 이 지나면 삭제된다)
+ * 좋아요 / 댓글 수 변경마다 무효화하면 캐시가 거의 적중하지 않으므로, 캐시된 페이지의 좋아요 / 댓글 수와 좋아요 순 정렬은
+ * TTL 동안 이전 값일 수 있다.
+ * Redis 장애 시에는 캐시를 사용하지 않고 DB 조회로 처리된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostPageCache {
+	static final String GENERATION_KEY = "post:page:generation";
+	public static final int PAGE_CACHE_LIMIT_IN_SECONDS = 600;
+
+	private final StringRedisTemplate redisTemplate;
+	private final ObjectMapper objectMapper;
+
+	/**
+	 * 캐시된 페이지 조회
+	 * @param generation 조회 전에 읽은 세대 번호
+	 * @param startDate 기간 시작 일시 (없으면 null)
+	 * @param finishDate 기간 마지막 일시 (없으면 null)
+	 * @param sortBy 게시글 정렬 기준
+	 * @param page 접근할 페이지
+	 * @return 캐시된 PostPageResponseDTO (없으면 빈 값)
+	 */
+	public Optional<PostPageResponseDTO> find(String generation, LocalDateTime startDate, LocalDateTime finishDate, String sortBy, Integer page) {
+		try {
+			String value = redisTemplate.opsForValue().get(key(generation, startDate, finishDate, sortBy, page));
+			return value != null ? Optional.of(objectMapper.readValue(value, PostPageResponseDTO.class)) : Optional.empty();
+		} catch (JsonProcessingException | RuntimeException e) {
+			log.warn("[PostPageCache] 캐시 조회 실패 : {}", e.getMessage());
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * 페이지 조회 결과 저장
+	 * 저장 시점이 아니라 DB 조회 전에 읽은 세대 번호로 저장하여, 조회 중에 변경된 게시글이 있으면
+	 * 이전 세대의 키로 저장되고 새 세대에서는 조회되지 않도록 한다.
+	 * @param generation 조회 전에 읽은 세대 번호
+	 * @param startDate 기간 시작 일시 (없으면 null)
+	 * @param finishDate 기간 마지막 일시 (없으면 null)
+	 * @param sortBy 게시글 정렬 기준
+	 * @param page 접근할 페이지
+	 * @param pageResponseDto 저장할 조회 결과
+	 */
+	public void save(String generation, LocalDateTime startDate, LocalDateTime finishDate, String sortBy, Integer page,
+		PostPageResponseDTO pageResponseDto) {
+		try {
+			redisTemplate.opsForValue().set(key(generation, startDate, finishDate, sortBy, page),
+				objectMapper.writeValueAsString(pageResponseDto), Duration.ofSeconds(PAGE_CACHE_LIMIT_IN_SECONDS));
+		} catch (JsonProcessingException | RuntimeException e) {
+			log.warn("[PostPageCache] 캐시 저장 실패 : {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * 현재 세대 번호 조회
+	 * 세대 번호가 없으면 (Redis 초기화 등) 현재 시각으로 시작하여, 이전 세대 번호와 겹치지 않도록 한다.
+	 * @return 세대 번호 (Redis 장애 시 빈 값)
+	 */
+	public Optional<String> findGeneration() {
+		try {
+			redisTemplate.opsForValue().setIfAbsent(GENERATION_KEY, String.valueOf(System.currentTimeMillis()));
+			return Optional.ofNullable(redisTemplate.opsForValue().get(GENERATION_KEY));
+		} catch (RuntimeException e) {
+			log.warn("[PostPageCache] 세대 번호 조회 실패 : {}", e.getMessage());
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * 게시글 생성 / 수정 / 삭제 트랜잭션이 커밋된 후 세대 번호 증가
+	 * @param event 게시글 내용 변경 이벤트
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void handlePostContentChanged(PostContentChangedEvent event) {
+		increaseGeneration();
+	}
+
+	/**
+	 * 좋아요 / 댓글 수 일괄 보정 후 세대 번호 증가 (하루 한 번 수행되므로 보정된 값을 바로 반영한다)
+	 * @param event 게시글 수 보정 이벤트
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void handlePostCountsRepaired(PostCountsRepairedEvent event) {
+		increaseGeneration();
+	}
+
+	private void increaseGeneration() {
+		try {
+			redisTemplate.opsForValue().increment(GENERATION_KEY);
+		} catch (RuntimeException e) {
+			log.warn("[PostPageCache] 세대 번호 증가 실패 : {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * 정규화된 캐시 키 생성 (post:page:{세대}:{시작일}:{마지막일}:{정렬 기준}:{페이지})
+	 */
+	private String key(String generation, LocalDateTime startDate, LocalDateTime finishDate, String sortBy, Integer page) {
+		return "post:page:" + generation
+			+ ":" + (startDate != null ? startDate.toLocalDate() : "-")
+			+ ":" + (finishDate != null ? finishDate.toLocalDate() : "-")
+			+ ":" + sortBy + ":" + page;
+	}
+}
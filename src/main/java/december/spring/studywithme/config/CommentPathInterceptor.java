@@ -0,0 +1,30 @@
+package december.spring.studywithme.config;
+
+import december.spring.studywithme.entity.Comment;
+import org.hibernate.Interceptor;
+import org.hibernate.type.Type;
+
+/**
+ * 댓글 저장 시 경로 완성
+ * 댓글 경로의 마지막 구간은 자신의 ID 이므로, ID 가 발급된 직후이면서 insert 할 값이 정해지기 전에 경로를 완성한다.
+ * 엔티티만 변경하면 insert 뒤에 update 가 한 번 더 실행되므로 insert 할 값(state)도 함께 바꾼다.
+ */
+public class CommentPathInterceptor implements Interceptor {
+	private static final String PATH_PROPERTY = "path";
+
+	@Override
+	public boolean onSave(Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) {
+		if (!(entity instanceof Comment comment)) {
+			return false;
+		}
+
+		comment.completePath();
+		for (int i = 0; i < propertyNames.length; i++) {
+			if (PATH_PROPERTY.equals(propertyNames[i])) {
+				state[i] = comment.getPath();
+				return true;
+			}
+		}
+		return false;
+	}
+}
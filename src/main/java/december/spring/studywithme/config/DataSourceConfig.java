@@ -0,0 +1,57 @@
+package december.spring.studywithme.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * primary / replica 데이터소스 설정 (spring.datasource.replica.enabled=true 인 경우에만 사용)
+ * replica 는 spring.datasource.replica.urls 에 쉼표로 구분하여 지정하며, 계정과 연결 옵션은 primary 와 같다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.datasource.replica.enabled", havingValue = "true")
+public class DataSourceConfig {
+
+	@Bean
+	@ConfigurationProperties("spring.datasource.hikari")
+	public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+		HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+		dataSource.setPoolName("primary");
+		return dataSource;
+	}
+
+	@Bean
+	public ReplicationRoutingDataSource routingDataSource(HikariDataSource primaryDataSource, DataSourceProperties properties,
+														  @Value("${spring.datasource.replica.urls}") List<String> replicaUrls) {
+		List<DataSource> replicas = new ArrayList<>();
+		for (int i = 0; i < replicaUrls.size(); i++) {
+			HikariDataSource replica = properties.initializeDataSourceBuilder()
+				.type(HikariDataSource.class)
+				.url(replicaUrls.get(i).trim())
+				.build();
+			replica.setPoolName("replica-" + i);
+			replica.setReadOnly(true);
+			replica.setMaximumPoolSize(primaryDataSource.getMaximumPoolSize());
+			replica.setDataSourceProperties(primaryDataSource.getDataSourceProperties());
+			replicas.add(replica);
+		}
+		return new ReplicationRoutingDataSource(primaryDataSource, replicas);
+	}
+
+	// 트랜잭션 시작 시점이 아닌 첫 쿼리 실행 시점에 연결을 얻어, readOnly 여부가 라우팅에 반영되도록 한다
+	@Bean
+	@Primary
+	public DataSource dataSource(ReplicationRoutingDataSource routingDataSource) {
+		return new LazyConnectionDataSourceProxy(routingDataSource);
+	}
+}
@@ -0,0 +1,70 @@
+package december.spring.studywithme.config;
+
+import december.spring.studywithme.entity.IdSequence;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * ID 발급 테이블 맞추기
+ * IDENTITY 로 ID 를 발급하던 테이블은 id_sequence 에 행이 없거나 기존 최대 ID 보다 작은 값을 가지고 있을 수 있다.
+ * pooled 방식은 읽어온 값을 발급 구간의 끝으로 사용하므로, 웹 서버가 요청을 받기 전에
+ * 각 행을 (최대 ID + ALLOCATION_SIZE) 이상으로 올려 새 ID 가 기존 ID 와 겹치지 않게 한다.
+ * 값을 올리기만 하므로 이미 실행 중인 다른 인스턴스가 발급받은 구간에는 영향이 없다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdSequenceInitializer implements SmartInitializingSingleton {
+    static final List<String> TABLES = List.of("user", "post", "post_body", "comment");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        synchronize();
+    }
+
+    /**
+     * 1. 테이블별 ID 발급 값 맞추기
+     */
+    public void synchronize() {
+        TABLES.forEach(this::synchronize);
+    }
+
+    /**
+     * 2. 한 테이블의 ID 발급 값 맞추기
+     * 기존 행을 옮겨 최대 ID 가 바뀐 경우 다시 맞출 수 있도록 같은 패키지의 초기화 작업에서도 사용한다.
+     * @param table ID 를 발급받는 테이블 이름
+     */
+    void synchronize(String table) {
+        Long maxId = jdbcTemplate.queryForObject("select coalesce(max(id), 0) from " + table, Long.class);
+        long nextValue = maxId + IdSequence.ALLOCATION_SIZE;
+
+        int updated = jdbcTemplate.update("update " + IdSequence.TABLE + " set " + IdSequence.VALUE_COLUMN + " = ? " +
+                "where " + IdSequence.PK_COLUMN + " = ? and " + IdSequence.VALUE_COLUMN + " < ?", nextValue, table, nextValue);
+        if (updated > 0) {
+            log.info("[IdSequenceInitializer] {} ID 발급 값 변경 : {}", table, nextValue);
+            return;
+        }
+
+        Integer rows = jdbcTemplate.queryForObject("select count(*) from " + IdSequence.TABLE +
+                " where " + IdSequence.PK_COLUMN + " = ?", Integer.class, table);
+        if (rows > 0) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.update("insert into " + IdSequence.TABLE + " (" + IdSequence.PK_COLUMN + ", " + IdSequence.VALUE_COLUMN + ") " +
+                    "values (?, ?)", table, nextValue);
+        } catch (DuplicateKeyException e) {
+            // 동시에 시작한 다른 인스턴스가 먼저 추가한 경우 그 값을 다시 확인
+            synchronize(table);
+        }
+    }
+}
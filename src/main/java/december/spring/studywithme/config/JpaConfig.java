@@ -1,9 +1,16 @@
 package december.spring.studywithme.config;
 
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
 @Configuration
 @EnableJpaAuditing
 public class JpaConfig {
+	@Bean
+	public HibernatePropertiesCustomizer commentPathPropertiesCustomizer() {
+		return properties -> properties.put(AvailableSettings.INTERCEPTOR, new CommentPathInterceptor());
+	}
 }
@@ -0,0 +1,91 @@
+package december.spring.studywithme.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 좋아요 테이블 기본 키 변경
+ * post_like / comment_like 는 별도의 id 와 등록 / 수정 시각을 가지던 테이블이다.
+ * ddl-auto=update 는 기본 키를 바꾸거나 컬럼을 지우지 않으므로, 웹 서버가 요청을 받기 전에
+ * id / created_at / modified_at 을 지우고 새로 만든 테이블과 같이 (대상 ID, user_id) 를 기본 키로 바꾼다.
+ * (user_id, 대상 ID) 유니크 키가 추가되기 전에 동시 요청으로 생긴 중복 행이 있으면 ddl-auto 의 유니크 키 추가가 실패한 채로 남으므로,
+ * 기본 키를 바꾸기 전에 같은 (user_id, 대상 ID) 중 id 가 가장 작은 행만 남기고 지운다. (좋아요 수는 LikeCountRepairService 가 보정한다)
+ * 유니크 키는 user_id 외래 키의 인덱스로 쓰이고 있으므로 지우지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LikeTableInitializer implements SmartInitializingSingleton {
+    static final List<LikeTable> TABLES = List.of(
+            new LikeTable("post_like", "post_id"),
+            new LikeTable("comment_like", "comment_id"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        migrate();
+    }
+
+    /**
+     * 1. 기본 키가 id 인 좋아요 테이블 변경
+     */
+    public void migrate() {
+        TABLES.forEach(this::migrate);
+    }
+
+    private void migrate(LikeTable table) {
+        if (!hasColumn(table.name(), "id")) {
+            return;
+        }
+
+        try {
+            int removed = jdbcTemplate.update(toDeduplicationSql(table));
+            if (removed > 0) {
+                log.info("[LikeTableInitializer] {} 중복 행 삭제 : {}건", table.name(), removed);
+            }
+            jdbcTemplate.execute(toMigrationSql(table));
+            log.info("[LikeTableInitializer] {} 기본 키 변경 : ({}, user_id)", table.name(), table.targetColumn());
+        } catch (DataAccessException e) {
+            // 동시에 시작한 다른 인스턴스가 먼저 변경한 경우만 무시하고, 그 외의 실패는 시작을 중단한다
+            if (hasColumn(table.name(), "id")) {
+                throw e;
+            }
+            log.info("[LikeTableInitializer] {} 는 다른 인스턴스가 이미 변경", table.name());
+        }
+    }
+
+    /**
+     * 중복 행 삭제 문 (같은 사용자 / 대상의 행 중 id 가 가장 작은 행만 남김)
+     * MySQL 은 삭제하는 테이블을 하위 쿼리에서 직접 읽을 수 없으므로 파생 테이블로 감싼다.
+     */
+    static String toDeduplicationSql(LikeTable table) {
+        return "delete from " + table.name() + " where id not in (select id from (select min(id) as id from " + table.name() +
+                " group by user_id, " + table.targetColumn() + ") kept)";
+    }
+
+    /**
+     * 기본 키 변경 문
+     * id 가 AUTO_INCREMENT 이면 기본 키만 먼저 지울 수 없고, 나누어 실행하면 중간에 실패했을 때 기본 키가 없는 테이블이 남으므로
+     * 한 문장으로 변경한다.
+     */
+    static String toMigrationSql(LikeTable table) {
+        return "alter table " + table.name() + " drop primary key, drop column id, drop column created_at, drop column modified_at, " +
+                "add primary key (" + table.targetColumn() + ", user_id)";
+    }
+
+    private boolean hasColumn(String table, String column) {
+        Integer columns = jdbcTemplate.queryForObject("select count(*) from information_schema.columns " +
+                "where table_schema = schema() and lower(table_name) = ? and lower(column_name) = ?", Integer.class, table, column);
+        return columns != null && columns > 0;
+    }
+
+    record LikeTable(String name, String targetColumn) {
+    }
+}
@@ -0,0 +1,68 @@
+package december.spring.studywithme.config;
+
+import december.spring.studywithme.entity.Post;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 게시글 본문 테이블 이전
+ * ddl-auto=update 는 post_body 테이블과 post 의 body_id / preview / contents_length 컬럼을 추가하지만,
+ * 기존 게시글은 body_id 가 0 으로 채워져 본문을 조인하는 조회에서 빠지고, 남아 있는 NOT NULL post.contents 때문에 새 게시글을 저장할 수 없다.
+ * 웹 서버가 요청을 받기 전에 다음 순서로 이전하며, post.contents 가 없으면 이미 이전된 것으로 보고 아무것도 하지 않는다.
+ * 1. 본문을 게시글과 같은 ID 로 post_body 에 옮기고 body_id / 미리보기 / 문자 수를 채운다 (한 트랜잭션)
+ * 2. post_body 의 ID 발급 값을 옮긴 본문의 최대 ID 이후로 올린다
+ * 3. post.contents 컬럼을 지운다
+ * body_id 의 유니크 키와 외래 키는 기존 행이 모두 0 이라 첫 시작에서 추가되지 못하고, 이전 후 다음 시작에서 ddl-auto 가 추가한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostBodyInitializer implements SmartInitializingSingleton {
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final IdSequenceInitializer idSequenceInitializer;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        migrate();
+    }
+
+    /**
+     * 1. 게시글 본문 이전
+     */
+    public void migrate() {
+        if (!hasContentsColumn()) {
+            return;
+        }
+
+        try {
+            Integer moved = transactionTemplate.execute(status -> {
+                int bodies = jdbcTemplate.update("insert into post_body (id, contents) select p.id, p.contents from post p " +
+                        "where not exists (select 1 from post_body b where b.id = p.id)");
+                jdbcTemplate.update("update post set body_id = id, preview = left(contents, ?), contents_length = char_length(contents) " +
+                        "where body_id is null or body_id = 0", Post.PREVIEW_LENGTH);
+                return bodies;
+            });
+            idSequenceInitializer.synchronize("post_body");
+            jdbcTemplate.execute("alter table post drop column contents");
+            log.info("[PostBodyInitializer] 게시글 본문 이전 : {}", moved);
+        } catch (DataAccessException e) {
+            // 동시에 시작한 다른 인스턴스가 먼저 이전한 경우만 무시하고, 그 외의 실패는 시작을 중단한다
+            if (hasContentsColumn()) {
+                throw e;
+            }
+            log.info("[PostBodyInitializer] 다른 인스턴스가 이미 이전");
+        }
+    }
+
+    private boolean hasContentsColumn() {
+        Integer columns = jdbcTemplate.queryForObject("select count(*) from information_schema.columns " +
+                "where table_schema = schema() and lower(table_name) = 'post' and lower(column_name) = 'contents'", Integer.class);
+        return columns != null && columns > 0;
+    }
+}
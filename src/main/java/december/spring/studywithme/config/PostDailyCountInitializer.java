@@ -0,0 +1,22 @@
+package december.spring.studywithme.config;
+
+import december.spring.studywithme.service.PostCountService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+
+/**
+ * 일자별 게시글 수 초기화
+ * 웹 서버가 요청을 받은 뒤에 초기화하면 그 사이에 등록된 게시글 때문에 일자별 게시글 수가 비어 있지 않게 되어 초기화가 영영 수행되지 않으므로,
+ * PostBodyInitializer 와 같이 요청을 받기 전에 수행한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PostDailyCountInitializer implements SmartInitializingSingleton {
+    private final PostCountService postCountService;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        postCountService.initializeCounts();
+    }
+}
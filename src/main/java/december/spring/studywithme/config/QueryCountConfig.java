@@ -0,0 +1,20 @@
+package december.spring.studywithme.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * 요청별 SQL 문 수 측정 (debug 프로파일에서만 등록)
+ * 측정 결과는 QueryCountFilter 가 응답 헤더와 메트릭으로 노출한다.
+ */
+@Configuration
+@Profile("debug")
+public class QueryCountConfig {
+	@Bean
+	public HibernatePropertiesCustomizer queryCountPropertiesCustomizer() {
+		return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryCountInspector());
+	}
+}
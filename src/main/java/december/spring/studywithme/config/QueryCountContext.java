@@ -0,0 +1,33 @@
+package december.spring.studywithme.config;
+
+/**
+ * 현재 스레드에서 실행된 SQL 문 수
+ * QueryCountInspector 가 문장마다 증가시키고, QueryCountFilter 가 요청 단위로 시작 / 초기화한다.
+ * 시작하지 않은 스레드(스케줄러, 비동기 작업 등)의 문장은 세지 않는다.
+ */
+public final class QueryCountContext {
+	private static final ThreadLocal<long[]> COUNT = new ThreadLocal<>();
+
+	private QueryCountContext() {
+	}
+
+	public static void start() {
+		COUNT.set(new long[1]);
+	}
+
+	public static void increase() {
+		long[] count = COUNT.get();
+		if (count != null) {
+			count[0]++;
+		}
+	}
+
+	public static long getCount() {
+		long[] count = COUNT.get();
+		return count != null ? count[0] : 0;
+	}
+
+	public static void clear() {
+		COUNT.remove();
+	}
+}
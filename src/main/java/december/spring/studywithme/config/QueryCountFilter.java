@@ -0,0 +1,108 @@
+package december.spring.studywithme.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * 요청별 SQL 문 수를 응답 헤더(X-Query-Count)와 메트릭(http.server.requests.queries)으로 노출 (debug 프로파일)
+ * 인증 필터에서 실행되는 사용자 조회까지 포함하도록 보안 필터보다 먼저 실행한다.
+ * 응답 본문을 쓰기 시작하면 헤더를 더 추가할 수 없으므로 헤더에는 본문을 쓰기 직전까지의 문장 수를 담는다.
+ * 비동기 응답(게시글 내보내기)은 다른 스레드에서 조회하므로 측정하지 않는다.
+ */
+@Component
+@Profile("debug")
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class QueryCountFilter extends OncePerRequestFilter {
+	public static final String QUERY_COUNT_HEADER = "X-Query-Count";
+
+	private final MeterRegistry meterRegistry;
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+		throws ServletException, IOException {
+		QueryCountResponseWrapper responseWrapper = new QueryCountResponseWrapper(response);
+		QueryCountContext.start();
+		try {
+			filterChain.doFilter(request, responseWrapper);
+
+			if (!request.isAsyncStarted()) {
+				responseWrapper.writeQueryCount();
+				record(request, QueryCountContext.getCount());
+			}
+		} finally {
+			QueryCountContext.clear();
+		}
+	}
+
+	private void record(HttpServletRequest request, long count) {
+		Object uri = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+		DistributionSummary.builder("http.server.requests.queries")
+			.description("요청별 SQL 문 수")
+			.tag("method", request.getMethod())
+			.tag("uri", uri != null ? uri.toString() : "UNKNOWN")
+			.register(meterRegistry)
+			.record(count);
+	}
+
+	/**
+	 * 응답이 커밋되기 전에 SQL 문 수 헤더를 추가하는 응답 래퍼
+	 */
+	private static class QueryCountResponseWrapper extends HttpServletResponseWrapper {
+		QueryCountResponseWrapper(HttpServletResponse response) {
+			super(response);
+		}
+
+		void writeQueryCount() {
+			if (!isCommitted()) {
+				setHeader(QUERY_COUNT_HEADER, String.valueOf(QueryCountContext.getCount()));
+			}
+		}
+
+		@Override
+		public ServletOutputStream getOutputStream() throws IOException {
+			writeQueryCount();
+			return super.getOutputStream();
+		}
+
+		@Override
+		public PrintWriter getWriter() throws IOException {
+			writeQueryCount();
+			return super.getWriter();
+		}
+
+		@Override
+		public void flushBuffer() throws IOException {
+			writeQueryCount();
+			super.flushBuffer();
+		}
+
+		@Override
+		public void sendError(int sc, String msg) throws IOException {
+			writeQueryCount();
+			super.sendError(sc, msg);
+		}
+
+		@Override
+		public void sendError(int sc) throws IOException {
+			writeQueryCount();
+			super.sendError(sc);
+		}
+	}
+}
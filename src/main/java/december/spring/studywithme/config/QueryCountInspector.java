@@ -0,0 +1,14 @@
+package december.spring.studywithme.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate 가 JDBC 문장을 준비할 때마다 현재 스레드의 SQL 문 수를 증가 (SQL 은 변경하지 않는다)
+ */
+public class QueryCountInspector implements StatementInspector {
+	@Override
+	public String inspect(String sql) {
+		QueryCountContext.increase();
+		return sql;
+	}
+}
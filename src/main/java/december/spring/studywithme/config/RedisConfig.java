@@ -3,10 +3,10 @@ package december.spring.studywithme.config;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
-
-import jakarta.annotation.PostConstruct;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 
 @Configuration
 public class RedisConfig {
@@ -16,18 +16,24 @@ public class RedisConfig {
 	@Value("${spring.data.redis.mail.port}")
 	private int port;
 	
-	private LettuceConnectionFactory lettuceConnectionFactory;
-	
-	@PostConstruct
-	public void init() {
-		lettuceConnectionFactory = new LettuceConnectionFactory(host, port);
-		lettuceConnectionFactory.start();
+	// 빈으로 등록하여 자동 설정되는 StringRedisTemplate 도 같은 연결을 사용하도록 한다
+	@Bean
+	public LettuceConnectionFactory redisConnectionFactory() {
+		return new LettuceConnectionFactory(host, port);
 	}
 	
 	@Bean
-	public RedisTemplate<?, ?> redisTemplate() {
+	public RedisTemplate<?, ?> redisTemplate(RedisConnectionFactory redisConnectionFactory) {
 		RedisTemplate<byte[], byte[]> redisTemplate = new RedisTemplate<>();
-		redisTemplate.setConnectionFactory(lettuceConnectionFactory);
+		redisTemplate.setConnectionFactory(redisConnectionFactory);
 		return redisTemplate;
 	}
+	
+	// 서버 간 전달 채널의 구독 컨테이너 (구독할 채널이 없으면 연결하지 않으며, 시작 / 종료는 스프링이 관리한다)
+	@Bean
+	public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(redisConnectionFactory);
+		return container;
+	}
 }
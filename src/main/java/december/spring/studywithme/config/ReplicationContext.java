@@ -0,0 +1,56 @@
+package december.spring.studywithme.config;
+
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드의 데이터소스 라우팅 상태
+ * 쓰기 트랜잭션이 한 번이라도 실행된 스레드는 이후 읽기 전용 트랜잭션도 primary 로 보내,
+ * 복제 지연으로 방금 쓴 데이터가 보이지 않는 문제(read-your-writes)를 막는다.
+ * 요청 스레드는 ReplicationContextFilter 가 요청이 끝날 때, 요청 밖의 스레드는 고정한 트랜잭션이 끝날 때 초기화한다.
+ */
+public final class ReplicationContext {
+	private static final ThreadLocal<Boolean> PRIMARY_PINNED = ThreadLocal.withInitial(() -> false);
+
+	private ReplicationContext() {
+	}
+
+	public static boolean isPrimaryPinned() {
+		return PRIMARY_PINNED.get();
+	}
+
+	public static void pinToPrimary() {
+		PRIMARY_PINNED.set(true);
+	}
+
+	public static void clear() {
+		PRIMARY_PINNED.remove();
+	}
+
+	/**
+	 * 읽기 전용 트랜잭션이라도 primary 에서 실행
+	 * (커밋 직후 변경 내용을 다시 읽는 캐시 / 색인 갱신 작업에서 사용)
+	 * @param task 실행할 작업
+	 */
+	public static void runOnPrimary(Runnable task) {
+		callOnPrimary(() -> {
+			task.run();
+			return null;
+		});
+	}
+
+	/**
+	 * 읽기 전용 트랜잭션이라도 primary 에서 실행하고 결과 반환
+	 * (조회 결과를 캐시에 저장하는 캐시 미스 조회에서 사용)
+	 * @param task 실행할 작업
+	 * @return 작업 결과
+	 */
+	public static <T> T callOnPrimary(Supplier<T> task) {
+		boolean pinned = PRIMARY_PINNED.get();
+		PRIMARY_PINNED.set(true);
+		try {
+			return task.get();
+		} finally {
+			PRIMARY_PINNED.set(pinned);
+		}
+	}
+}
@@ -0,0 +1,27 @@
+package december.spring.studywithme.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 요청이 끝나면 스레드의 primary 고정 상태를 초기화 (스레드 풀에서 재사용되는 다음 요청에 영향을 주지 않도록)
+ */
+@Component
+public class ReplicationContextFilter extends OncePerRequestFilter {
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+		throws ServletException, IOException {
+		ReplicationContext.clear();
+		try {
+			filterChain.doFilter(request, response);
+		} finally {
+			ReplicationContext.clear();
+		}
+	}
+}
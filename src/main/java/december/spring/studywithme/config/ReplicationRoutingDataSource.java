@@ -0,0 +1,130 @@
+package december.spring.studywithme.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 트랜잭션 종류에 따라 primary / replica 로 연결을 나누는 데이터소스
+ * 읽기 전용 트랜잭션은 정상 상태의 replica 에 라운드 로빈으로 보내고, 쓰기 트랜잭션과 트랜잭션 밖의 조회,
+ * 그리고 이미 쓰기가 실행된 스레드의 조회는 primary 로 보낸다. 트랜잭션의 readOnly 설정이 반영된 뒤에
+ * 연결을 얻어야 하므로 LazyConnectionDataSourceProxy 로 감싸서 사용한다.
+ */
+@Slf4j
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+	static final String PRIMARY = "primary";
+	private static final String REPLICA_PREFIX = "replica-";
+	private static final int HEALTH_CHECK_TIMEOUT_IN_SECONDS = 2;
+
+	private final Map<String, DataSource> replicas = new HashMap<>();
+	private final List<String> replicaKeys = new ArrayList<>();
+	private final Set<String> healthyReplicaKeys = ConcurrentHashMap.newKeySet();
+	private final AtomicInteger counter = new AtomicInteger();
+
+	public ReplicationRoutingDataSource(DataSource primary, List<DataSource> replicaList) {
+		for (int i = 0; i < replicaList.size(); i++) {
+			replicas.put(REPLICA_PREFIX + i, replicaList.get(i));
+			replicaKeys.add(REPLICA_PREFIX + i);
+		}
+		// 첫 상태 확인 전까지는 모든 replica 를 정상으로 간주
+		healthyReplicaKeys.addAll(replicaKeys);
+
+		Map<Object, Object> targetDataSources = new HashMap<>(replicas);
+		targetDataSources.put(PRIMARY, primary);
+		setTargetDataSources(targetDataSources);
+		setDefaultTargetDataSource(primary);
+	}
+
+	@Override
+	protected Object determineCurrentLookupKey() {
+		if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+			if (TransactionSynchronizationManager.isActualTransactionActive() && !ReplicationContext.isPrimaryPinned()) {
+				pinToPrimary();
+			}
+			return PRIMARY;
+		}
+		if (ReplicationContext.isPrimaryPinned()) {
+			return PRIMARY;
+		}
+		return nextHealthyReplica();
+	}
+
+	/**
+	 * 현재 스레드를 primary 로 고정
+	 * 요청 스레드는 ReplicationContextFilter 가 요청이 끝날 때 초기화하지만, 스케줄러 / 실행기 스레드는 초기화되지 않아
+	 * 한 번 쓰기가 실행되면 계속 primary 로 조회하게 되므로 요청 밖에서는 트랜잭션이 끝날 때 고정을 해제한다.
+	 */
+	private void pinToPrimary() {
+		ReplicationContext.pinToPrimary();
+		if (RequestContextHolder.getRequestAttributes() == null && TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					ReplicationContext.clear();
+				}
+			});
+		}
+	}
+
+	/**
+	 * replica 상태 확인 (연결이 실패한 replica 는 복구될 때까지 제외)
+	 */
+	@Scheduled(fixedDelayString = "${spring.datasource.replica.health-check-interval:PT5S}")
+	public void checkReplicaHealth() {
+		for (String key : replicaKeys) {
+			boolean healthy = isValid(replicas.get(key));
+			boolean changed = healthy ? healthyReplicaKeys.add(key) : healthyReplicaKeys.remove(key);
+			if (changed) {
+				log.warn("[ReplicationRoutingDataSource] {} 상태 변경 : {}", key, healthy ? "정상" : "장애");
+			}
+		}
+	}
+
+	// primary 는 별도 빈으로 관리되므로 replica 연결 풀만 닫는다
+	@Override
+	public void close() {
+		for (Map.Entry<String, DataSource> replica : replicas.entrySet()) {
+			if (replica.getValue() instanceof AutoCloseable closeable) {
+				try {
+					closeable.close();
+				} catch (Exception e) {
+					log.warn("[ReplicationRoutingDataSource] {} 종료 실패 : {}", replica.getKey(), e.getMessage());
+				}
+			}
+		}
+	}
+
+	private String nextHealthyReplica() {
+		int size = replicaKeys.size();
+		int start = Math.floorMod(counter.getAndIncrement(), Math.max(size, 1));
+		for (int i = 0; i < size; i++) {
+			String key = replicaKeys.get((start + i) % size);
+			if (healthyReplicaKeys.contains(key)) {
+				return key;
+			}
+		}
+		return PRIMARY;
+	}
+
+	private boolean isValid(DataSource dataSource) {
+		try (Connection connection = dataSource.getConnection()) {
+			return connection.isValid(HEALTH_CHECK_TIMEOUT_IN_SECONDS);
+		} catch (SQLException e) {
+			return false;
+		}
+	}
+}
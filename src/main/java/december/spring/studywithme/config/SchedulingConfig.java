@@ -0,0 +1,13 @@
+package december.spring.studywithme.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄 작업 설정
+ * 기본 스케줄러는 스레드가 하나이므로 spring.task.scheduling.pool.size 로 스레드 수를 지정한다.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
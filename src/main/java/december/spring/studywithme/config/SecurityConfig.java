@@ -64,6 +64,7 @@ public class SecurityConfig {
                         .requestMatchers(PathRequest.toStaticResources().atCommonLocations()).permitAll()
                         .requestMatchers(HttpMethod.POST,"/api/users/login").permitAll()
                         .requestMatchers(HttpMethod.POST,"/api/users/signup").permitAll()
+                        .requestMatchers(HttpMethod.GET,"/api/posts/export").authenticated()
                         .requestMatchers(HttpMethod.GET,"/api/posts/**").permitAll()
                         .requestMatchers(HttpMethod.GET,"/api/users/{id}").permitAll()
                         .anyRequest().authenticated()
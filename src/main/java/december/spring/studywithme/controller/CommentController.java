@@ -1,5 +1,7 @@
 package december.spring.studywithme.controller;
 
+import december.spring.studywithme.cache.PostLikerIndex;
+import december.spring.studywithme.dto.CommentPageResponseDTO;
 import december.spring.studywithme.dto.CommentRequestDTO;
 import december.spring.studywithme.dto.CommentResponseDTO;
 import december.spring.studywithme.dto.ResponseMessage;
@@ -11,8 +13,10 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
-import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/posts/{postId}/comments")
@@ -44,22 +48,65 @@ public class CommentController {
 
     }
 
+    /**
+     * 1-1. 답글 등록
+     * @param userDetails 로그인한 사용자의 세부 정보
+     * @param postId 게시물의 ID
+     * @param commentId 답글을 달 댓글의 ID
+     * @param requestDto 댓글 생성 요청 데이터
+     * @return ResponseEntity<ResponseMessage<CommentResponseDTO>> 형태의 HTTP 응답. 이 응답은 다음을 포함한다:
+     *         - 상태 코드: 답글이 성공적으로 생성되면 201 (CREATED)
+     *         - 메시지: 답글 생성 상태를 설명하는 메시지
+     *         - 데이터: 생성된 답글의 정보를 담고 있는 CommentResponseDTO 객체
+     */
+    @PostMapping("/{commentId}/replies")
+    public ResponseEntity<ResponseMessage<CommentResponseDTO>> createReply(@AuthenticationPrincipal UserDetailsImpl userDetails, @PathVariable Long postId, @PathVariable Long commentId, @Valid @RequestBody CommentRequestDTO requestDto) {
+        CommentResponseDTO responseDto = commentService.createReply(userDetails, postId, commentId, requestDto);
+
+        ResponseMessage<CommentResponseDTO> responseMessage = ResponseMessage.<CommentResponseDTO>builder()
+                .statusCode(HttpStatus.CREATED.value())
+                .message("답글 등록이 완료되었습니다.")
+                .data(responseDto)
+                .build();
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(responseMessage);
+    }
+
     /**
      * 2. 전체 댓글 조회
      * @param postId 게시물의 ID
-     * @return ResponseEntity<ResponseMessage<List<CommentResponseDTO>>> 형태의 HTTP 응답. 이 응답은 다음을 포함한다:
-     *        - 상태 코드: 댓글 조회가 성공적으로 이루어지면 200 (OK)
+     * @param cursor 이전 페이지 조회 결과로 전달받은 커서 (첫 페이지 조회 시 생략)
+     * @param userDetails 로그인한 사용자의 세부 정보 (로그인한 경우 댓글마다 좋아요 여부를 표시)
+     * @param webRequest 조건부 조회 헤더(If-None-Match)를 담고 있는 요청
+     * @return ResponseEntity<ResponseMessage<CommentPageResponseDTO>> 형태의 HTTP 응답. 이 응답은 다음을 포함한다:
+     *        - 상태 코드: 댓글 조회가 성공적으로 이루어지면 200 (OK), 변경되지 않았으면 304 (NOT_MODIFIED)
      *        - 메시지: 댓글 조회 상태를 설명하는 메시지
-     *        - 데이터: 조회된 댓글 목록을 담고 있는 CommentResponseDTO 객체의 리스트
+     *        - 데이터: 조회된 댓글과 다음 페이지 커서를 담고 있는 CommentPageResponseDTO 객체
      */
     @GetMapping
-    public ResponseEntity<ResponseMessage<List<CommentResponseDTO>>> getAllComments(@PathVariable Long postId) {
-        List<CommentResponseDTO> responseDtoList = commentService.getAllComments(postId);
-
-        ResponseMessage<List<CommentResponseDTO>> responseMessage = ResponseMessage.<List<CommentResponseDTO>>builder()
+    public ResponseEntity<ResponseMessage<CommentPageResponseDTO>> getAllComments(@PathVariable Long postId,
+                                                                                @RequestParam(value = "cursor", required = false) String cursor,
+                                                                                @AuthenticationPrincipal UserDetailsImpl userDetails,
+                                                                                WebRequest webRequest) {
+        String eTag = commentService.getAllCommentsETag(postId);
+        if (userDetails == null && webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
+        CommentPageResponseDTO commentPageResponseDto = commentService.getAllComments(postId, cursor);
+        if (userDetails != null) {
+            // 로그인한 사용자는 좋아요 여부를 표시한 사본으로 응답하고, 좋아요를 누른 댓글까지 ETag 에 반영
+            Set<Long> likedCommentIds = commentService.findLikedCommentIds(userDetails, commentPageResponseDto.getCommentList());
+            if (webRequest.checkNotModified(PostLikerIndex.toLikedETag(eTag, likedCommentIds))) {
+                return null;
+            }
+            commentPageResponseDto = commentPageResponseDto.markLiked(likedCommentIds);
+        }
+
+        ResponseMessage<CommentPageResponseDTO> responseMessage = ResponseMessage.<CommentPageResponseDTO>builder()
                 .statusCode(HttpStatus.OK.value())
                 .message("전체 댓글 조회가 완료되었습니다.")
-                .data(responseDtoList)
+                .data(commentPageResponseDto)
                 .build();
 
         return ResponseEntity.status(HttpStatus.OK).body(responseMessage);
@@ -69,13 +116,19 @@ public class CommentController {
      * 3. 단일 댓글 조회
      * @param postId 게시물의 ID
      * @param commentId 댓글의 ID
+     * @param webRequest 조건부 조회 헤더(If-None-Match)를 담고 있는 요청
      * @return ResponseEntity<ResponseMessage<CommentResponseDTO>> 형태의 HTTP 응답. 이 응답은 다음을 포함한다:
-     *       - 상태 코드: 댓글 조회가 성공적으로 이루어지면 200 (OK)
+     *       - 상태 코드: 댓글 조회가 성공적으로 이루어지면 200 (OK), 변경되지 않았으면 304 (NOT_MODIFIED)
      *       - 메시지: 댓글 조회 상태를 설명하는 메시지
      *       - 데이터: 조회된 댓글의 정보를 담고 있는 CommentResponseDTO 객체
      */
     @GetMapping("/{commentId}")
-    public ResponseEntity<ResponseMessage<CommentResponseDTO>> getComment(@PathVariable Long postId, @PathVariable Long commentId) {
+    public ResponseEntity<ResponseMessage<CommentResponseDTO>> getComment(@PathVariable Long postId, @PathVariable Long commentId, WebRequest webRequest) {
+        Optional<String> eTag = commentService.getCommentETag(postId, commentId);
+        if (eTag.isPresent() && webRequest.checkNotModified(eTag.get())) {
+            return null;
+        }
+
         CommentResponseDTO responseDto = commentService.getComment(postId, commentId);
 
         ResponseMessage<CommentResponseDTO> responseMessage = ResponseMessage.<CommentResponseDTO>builder()
@@ -87,6 +140,35 @@ public class CommentController {
         return ResponseEntity.status(HttpStatus.OK).body(responseMessage);
     }
 
+    /**
+     * 3-1. 답글 스레드 조회
+     * @param postId 게시물의 ID
+     * @param commentId 댓글의 ID
+     * @param cursor 이전 페이지 조회 결과로 전달받은 커서 (첫 페이지 조회 시 생략)
+     * @param userDetails 로그인한 사용자의 세부 정보 (로그인한 경우 답글마다 좋아요 여부를 표시)
+     * @return ResponseEntity<ResponseMessage<CommentPageResponseDTO>> 형태의 HTTP 응답. 이 응답은 다음을 포함한다:
+     *       - 상태 코드: 답글 조회가 성공적으로 이루어지면 200 (OK)
+     *       - 메시지: 답글 조회 상태를 설명하는 메시지
+     *       - 데이터: 조회된 답글과 다음 페이지 커서를 담고 있는 CommentPageResponseDTO 객체
+     */
+    @GetMapping("/{commentId}/replies")
+    public ResponseEntity<ResponseMessage<CommentPageResponseDTO>> getReplies(@PathVariable Long postId, @PathVariable Long commentId,
+                                                                            @RequestParam(value = "cursor", required = false) String cursor,
+                                                                            @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        CommentPageResponseDTO replyPageResponseDto = commentService.getReplies(postId, commentId, cursor);
+        if (userDetails != null) {
+            replyPageResponseDto = replyPageResponseDto.markLiked(commentService.findLikedCommentIds(userDetails, replyPageResponseDto.getCommentList()));
+        }
+
+        ResponseMessage<CommentPageResponseDTO> responseMessage = ResponseMessage.<CommentPageResponseDTO>builder()
+                .statusCode(HttpStatus.OK.value())
+                .message("답글 조회가 완료되었습니다.")
+                .data(replyPageResponseDto)
+                .build();
+
+        return ResponseEntity.status(HttpStatus.OK).body(responseMessage);
+    }
+
     /**
      * 4. 댓글 수정
      * @param userDetails 로그인한 사용자의 세부 정보
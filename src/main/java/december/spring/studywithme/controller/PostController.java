@@ -1,26 +1,50 @@
 package december.spring.studywithme.controller;
 
+import december.spring.studywithme.cache.PostFeedCache;
+import december.spring.studywithme.cache.PostLikerIndex;
+import december.spring.studywithme.dto.PostCursorResponseDTO;
 import december.spring.studywithme.dto.PostPageResponseDTO;
+import december.spring.studywithme.dto.PostPreviewResponseDTO;
 import december.spring.studywithme.dto.PostRequestDTO;
 import december.spring.studywithme.dto.PostResponseDTO;
 import december.spring.studywithme.dto.ResponseMessage;
+import december.spring.studywithme.live.PostLiveBroker;
 import december.spring.studywithme.security.UserDetailsImpl;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import december.spring.studywithme.service.PostExportService;
+import december.spring.studywithme.service.PostSearchService;
 import december.spring.studywithme.service.PostService;
+import december.spring.studywithme.service.TrendingPostService;
 import lombok.RequiredArgsConstructor;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/posts")
 @RequiredArgsConstructor
 public class PostController {
+    // 전체 게시글 내보내기 스트리밍 응답 제한 시간 (다른 비동기 응답은 기본 제한 시간을 사용)
+    private static final Duration EXPORT_TIMEOUT = Duration.ofHours(1);
+
     private final PostService postService;
+    private final TrendingPostService trendingPostService;
+    private final PostSearchService postSearchService;
+    private final PostExportService postExportService;
+    private final PostLiveBroker postLiveBroker;
 
     /**
      * 1. 게시글 등록
@@ -49,14 +73,19 @@ public class PostController {
      * 2. 단일 게시글 조회
      *
      * @param id 게시글의 ID
+     * @param webRequest 조건부 조회 헤더(If-None-Match)를 담고 있는 요청
      * @return ResponseEntity<ResponseMessage<PostResponseDTO>> 형태의 HTTP 응답. 이 응답은 다음을 포함한다:
-     * - 상태 코드: 게시글 조회가 성공적으로 이루어지면 200 (OK)
+     * - 상태 코드: 게시글 조회가 성공적으로 이루어지면 200 (OK), 변경되지 않았으면 304 (NOT_MODIFIED)
      * - 메시지: 게시글 조회 상태를 설명하는 메시지
      * - 데이터: 조회된 게시글의 정보를 담고 있는 PostResponseDTO 객체
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ResponseMessage<PostResponseDTO>> getPost(@PathVariable Long id) {
+    public ResponseEntity<ResponseMessage<PostResponseDTO>> getPost(@PathVariable Long id, WebRequest webRequest) {
         PostResponseDTO postResponseDTO = postService.getPost(id);
+        // 좋아요 수 변경은 수정 시각을 바꾸지 않으므로 Last-Modified 없이 좋아요 수를 포함한 ETag 로만 판단
+        if (webRequest.checkNotModified(postResponseDTO.toETag())) {
+            return null;
+        }
 
         ResponseMessage<PostResponseDTO> responseMessage = ResponseMessage.<PostResponseDTO>builder()
                 .statusCode(HttpStatus.OK.value())
@@ -67,6 +96,20 @@ public class PostController {
         return ResponseEntity.status(HttpStatus.OK).body(responseMessage);
     }
 
+    /**
+     * 2-1. 게시글 실시간 구독
+     * 게시글과 댓글 목록을 주기적으로 다시 조회하는 대신, 댓글 등록과 좋아요 수 변경을 Server-Sent Events 로 받는다.
+     * - comment: 등록된 댓글 (CommentResponseDTO)
+     * - post-likes / comment-likes: 게시글 / 댓글의 좋아요 수 (LikeCountResponseDTO)
+     *
+     * @param id 게시글의 ID
+     * @return SseEmitter 이벤트 스트림 (text/event-stream)
+     */
+    @GetMapping(value = "/{id}/live", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribePost(@PathVariable Long id) {
+        return postLiveBroker.subscribe(id);
+    }
+
     /**
      * 3. 전체 게시글 페이지 조회
      *
@@ -74,21 +117,49 @@ public class PostController {
      * @param sortBy 게시글 정렬 기준
      * @param from 기간 시작 일자
      * @param to 기간 마지막 일자
-     * @return ResponseEntity<ResponseMessage<PostPageResponseDTO>> 형태의 HTTP 응답. 이 응답은 다음을 포함한다:
-     * - 상태 코드: 게시글 조회가 성공적으로 이루어지면 200 (OK)
+     * @param userDetails 로그인한 사용자의 세부 정보 (로그인한 경우 게시글마다 좋아요 여부를 표시)
+     * @param webRequest 조건부 조회 헤더(If-None-Match)를 담고 있는 요청
+     * @return ResponseEntity<ResponseMessage<Object>> 형태의 HTTP 응답. 이 응답은 다음을 포함한다:
+     * - 상태 코드: 게시글 조회가 성공적으로 이루어지면 200 (OK), 변경되지 않았으면 304 (NOT_MODIFIED)
      * - 메시지: 게시글 조회 상태를 설명하는 메시지
      * - 데이터: 조회된 페이지와 게시글의 정보를 담고 있는 PostPageResponseDTO 객체
+     *          (기간 조건이 없는 앞쪽 페이지는 미리 직렬화된 스냅샷)
      */
     @GetMapping
-    public ResponseEntity<ResponseMessage<PostPageResponseDTO>> getPostPage(
+    public ResponseEntity<ResponseMessage<Object>> getPostPage(
             @RequestParam(value = "page", required = false, defaultValue = "1") Integer page,
             @RequestParam(value = "sortBy", required = false, defaultValue = "createdAt") String sortBy,
             @RequestParam(value = "from", required = false) String from,
-            @RequestParam(value = "to", required = false) String to
+            @RequestParam(value = "to", required = false) String to,
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            WebRequest webRequest
     ) {
-        PostPageResponseDTO pageResponseDto = postService.getPostPage(page, sortBy, from, to);
+        Optional<PostFeedCache.FeedPage> snapshot = (from == null && to == null)
+                ? postService.getPostPageSnapshot(page, sortBy) : Optional.empty();
 
-        ResponseMessage<PostPageResponseDTO> responseMessage = ResponseMessage.<PostPageResponseDTO>builder()
+        // 페이지를 조회하기 전에 스냅샷 해시 또는 게시글 세대 번호로 변경 여부 확인
+        Optional<String> eTag = snapshot.isPresent()
+                ? Optional.of(snapshot.get().getETag()) : postService.getPostPageETag();
+
+        Object pageResponseDto;
+        if (userDetails == null) {
+            if (eTag.isPresent() && webRequest.checkNotModified(eTag.get())) {
+                return null;
+            }
+            pageResponseDto = snapshot.isPresent()
+                    ? snapshot.get().getBody() : postService.getPostPage(page, sortBy, from, to);
+        } else {
+            // 로그인한 사용자는 좋아요 여부를 표시한 사본으로 응답하고, 좋아요를 누른 게시글까지 ETag 에 반영
+            PostPageResponseDTO postPage = snapshot.isPresent()
+                    ? snapshot.get().getPage() : postService.getPostPage(page, sortBy, from, to);
+            Set<Long> likedPostIds = postService.findLikedPostIds(userDetails, postPage.getPostList());
+            if (eTag.isPresent() && webRequest.checkNotModified(PostLikerIndex.toLikedETag(eTag.get(), likedPostIds))) {
+                return null;
+            }
+            pageResponseDto = postPage.markLiked(likedPostIds);
+        }
+
+        ResponseMessage<Object> responseMessage = ResponseMessage.<Object>builder()
                 .statusCode(HttpStatus.OK.value())
                 .message("게시글 페이지 조회가 완료되었습니다.")
                 .data(pageResponseDto)
@@ -97,6 +168,112 @@ public class PostController {
         return ResponseEntity.status(HttpStatus.OK).body(responseMessage);
     }
 
+    /**
+     * 3-1. 전체 게시글 커서 페이지 조회
+     *
+     * @param cursor 이전 페이지 조회 결과로 전달받은 커서 (첫 페이지 조회 시 생략)
+     * @param sortBy 게시글 정렬 기준 (createdAt, likes)
+     * @param from 기간 시작 일자
+     * @param to 기간 마지막 일자
+     * @param userDetails 로그인한 사용자의 세부 정보 (로그인한 경우 게시글마다 좋아요 여부를 표시)
+     * @return ResponseEntity<ResponseMessage<PostCursorResponseDTO>> 형태의 HTTP 응답. 이 응답은 다음을 포함한다:
+     * - 상태 코드: 게시글 조회가 성공적으로 이루어지면 200 (OK)
+     * - 메시지: 게시글 조회 상태를 설명하는 메시지
+     * - 데이터: 조회된 게시글과 다음 페이지 커서를 담고 있는 PostCursorResponseDTO 객체
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<ResponseMessage<PostCursorResponseDTO>> getPostCursorPage(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "sortBy", required = false, defaultValue = "createdAt") String sortBy,
+            @RequestParam(value = "from", required = false) String from,
+            @RequestParam(value = "to", required = false) String to,
+            @AuthenticationPrincipal UserDetailsImpl userDetails
+    ) {
+        PostCursorResponseDTO cursorResponseDto = postService.getPostCursorPage(cursor, sortBy, from, to);
+        if (userDetails != null) {
+            cursorResponseDto = cursorResponseDto.markLiked(postService.findLikedPostIds(userDetails, cursorResponseDto.getPostList()));
+        }
+
+        ResponseMessage<PostCursorResponseDTO> responseMessage = ResponseMessage.<PostCursorResponseDTO>builder()
+                .statusCode(HttpStatus.OK.value())
+                .message("게시글 커서 페이지 조회가 완료되었습니다.")
+                .data(cursorResponseDto)
+                .build();
+
+        return ResponseEntity.status(HttpStatus.OK).body(responseMessage);
+    }
+
+    /**
+     * 3-2. 인기 게시글 조회
+     *
+     * @param size 조회할 게시글 수 (최대 50)
+     * @return ResponseEntity<ResponseMessage<List<PostPreviewResponseDTO>>> 형태의 HTTP 응답. 이 응답은 다음을 포함한다:
+     * - 상태 코드: 게시글 조회가 성공적으로 이루어지면 200 (OK)
+     * - 메시지: 게시글 조회 상태를 설명하는 메시지
+     * - 데이터: 최근 좋아요 속도 순으로 정렬된 PostPreviewResponseDTO 객체의 리스트
+     */
+    @GetMapping("/trending")
+    public ResponseEntity<ResponseMessage<List<PostPreviewResponseDTO>>> getTrendingPosts(
+            @RequestParam(value = "size", required = false, defaultValue = "10") Integer size
+    ) {
+        List<PostPreviewResponseDTO> postList = trendingPostService.getTrendingPosts(size);
+
+        ResponseMessage<List<PostPreviewResponseDTO>> responseMessage = ResponseMessage.<List<PostPreviewResponseDTO>>builder()
+                .statusCode(HttpStatus.OK.value())
+                .message("인기 게시글 조회가 완료되었습니다.")
+                .data(postList)
+                .build();
+
+        return ResponseEntity.status(HttpStatus.OK).body(responseMessage);
+    }
+
+    /**
+     * 3-3. 게시글 검색
+     *
+     * @param keyword 검색어 (제목, 내용)
+     * @param page 접근할 페이지
+     * @return ResponseEntity<ResponseMessage<PostPageResponseDTO>> 형태의 HTTP 응답. 이 응답은 다음을 포함한다:
+     * - 상태 코드: 게시글 검색이 성공적으로 이루어지면 200 (OK)
+     * - 메시지: 게시글 검색 상태를 설명하는 메시지
+     * - 데이터: 검색 점수 순으로 정렬된 게시글을 담고 있는 PostPageResponseDTO 객체
+     */
+    @GetMapping("/search")
+    public ResponseEntity<ResponseMessage<PostPageResponseDTO>> searchPosts(
+            @RequestParam(value = "keyword") String keyword,
+            @RequestParam(value = "page", required = false, defaultValue = "1") Integer page
+    ) {
+        PostPageResponseDTO pageResponseDto = postSearchService.searchPosts(keyword, page);
+
+        ResponseMessage<PostPageResponseDTO> responseMessage = ResponseMessage.<PostPageResponseDTO>builder()
+                .statusCode(HttpStatus.OK.value())
+                .message("게시글 검색이 완료되었습니다.")
+                .data(pageResponseDto)
+                .build();
+
+        return ResponseEntity.status(HttpStatus.OK).body(responseMessage);
+    }
+
+    /**
+     * 3-4. 전체 게시글 내보내기
+     * 전체 게시글을 내려받는 데 오래 걸리므로, 이 응답에만 EXPORT_TIMEOUT 을 비동기 처리 제한 시간으로 지정한다.
+     *
+     * @param response    게시글을 바로 출력할 HTTP 응답
+     * @return WebAsyncTask<Void> 응답 출력 스트림에 게시글을 쓰는 비동기 작업. 이 응답은 다음을 포함한다:
+     * - 상태 코드: 내보내기가 시작되면 200 (OK)
+     * - 데이터: 한 줄에 게시글 하나씩 담긴 NDJSON (application/x-ndjson) 스트림
+     */
+    @GetMapping("/export")
+    public WebAsyncTask<Void> exportPosts(HttpServletResponse response) {
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"posts.ndjson\"");
+
+        return new WebAsyncTask<>(EXPORT_TIMEOUT.toMillis(), () -> {
+            postExportService.exportPosts(response.getOutputStream());
+            return null;
+        });
+    }
+
     /**
      * 4. 게시글 수정
      *
@@ -140,5 +317,4 @@ public class PostController {
 
         return ResponseEntity.status(HttpStatus.OK).body(responseMessage);
     }
-
 }
@@ -0,0 +1,32 @@
+package december.spring.studywithme.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 댓글 커서 페이지 조회 결과
+ * 댓글은 스레드 순서(부모 → 답글 → 다음 형제)로 담기며, parentId / depth 로 스레드를 구성한다.
+ * 다음 페이지는 nextCursor 를 cursor 로 전달하여 조회한다.
+ */
+@Getter
+public class CommentPageResponseDTO {
+    private Integer size;
+    private Boolean hasNext;
+    private String nextCursor;
+    private List<CommentResponseDTO> commentList;
+
+    public CommentPageResponseDTO(List<CommentResponseDTO> commentList, String nextCursor) {
+        this.size = commentList.size();
+        this.hasNext = nextCursor != null;
+        this.nextCursor = nextCursor;
+        this.commentList = commentList;
+    }
+
+    public CommentPageResponseDTO markLiked(Set<Long> likedCommentIds) {
+        return new CommentPageResponseDTO(commentList.stream()
+                .map(comment -> comment.withLikedByMe(likedCommentIds.contains(comment.getId())))
+                .toList(), nextCursor);
+    }
+}
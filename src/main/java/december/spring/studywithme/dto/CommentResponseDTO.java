@@ -1,5 +1,7 @@
 package december.spring.studywithme.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import december.spring.studywithme.entity.Comment;
 import lombok.Getter;
 
@@ -7,17 +9,52 @@ import java.time.LocalDateTime;
 
 @Getter
 public class CommentResponseDTO {
+    private Long id;
     private String userId;
     private Long postId;
+    private Long parentId;
+    private Integer depth;
     private String contents;
     private LocalDateTime createdAt;
     private LocalDateTime modifiedAt;
 
+    // 다음 페이지 커서 (스레드 순서 위치)
+    @JsonIgnore
+    private String path;
+
+    // 로그인한 사용자의 좋아요 여부 (비로그인 조회와 실시간 이벤트에는 포함하지 않는다)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean likedByMe;
+
     public CommentResponseDTO(Comment comment) {
+        this.id = comment.getId();
         this.userId = comment.getUser().getUserId();
         this.postId = comment.getPost().getId();
+        this.parentId = comment.getParentId();
+        this.depth = comment.getDepth();
         this.contents = comment.getContents();
         this.createdAt = comment.getCreatedAt();
         this.modifiedAt = comment.getModifiedAt();
+        this.path = comment.getPath();
+    }
+
+    // CommentRepository 목록 조회 쿼리의 생성자 프로젝션에서 사용
+    public CommentResponseDTO(Long id, String userId, Long postId, Long parentId, Integer depth, String path,
+                              String contents, LocalDateTime createdAt, LocalDateTime modifiedAt) {
+        this.id = id;
+        this.userId = userId;
+        this.postId = postId;
+        this.parentId = parentId;
+        this.depth = depth;
+        this.path = path;
+        this.contents = contents;
+        this.createdAt = createdAt;
+        this.modifiedAt = modifiedAt;
+    }
+
+    public CommentResponseDTO withLikedByMe(boolean likedByMe) {
+        CommentResponseDTO copy = new CommentResponseDTO(id, userId, postId, parentId, depth, path, contents, createdAt, modifiedAt);
+        copy.likedByMe = likedByMe;
+        return copy;
     }
 }
@@ -0,0 +1,25 @@
+package december.spring.studywithme.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글의 댓글 목록 버전 (댓글 수, 가장 최근 수정 시각)
+ * 댓글 엔티티를 조회하지 않고 조건부 조회(ETag)의 변경 여부를 판단하는 데 사용
+ */
+@Getter
+public class CommentVersionDTO {
+    private final Long commentCount;
+    private final LocalDateTime lastModifiedAt;
+
+    // CommentRepository 버전 조회 쿼리의 생성자 프로젝션에서 사용
+    public CommentVersionDTO(Long commentCount, LocalDateTime lastModifiedAt) {
+        this.commentCount = commentCount;
+        this.lastModifiedAt = lastModifiedAt;
+    }
+
+    public String toETag(Long postId) {
+        return "comments-" + postId + "-" + commentCount + "-" + lastModifiedAt;
+    }
+}
@@ -0,0 +1,14 @@
+package december.spring.studywithme.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 게시글 / 댓글의 좋아요 수 (실시간 이벤트 데이터)
+ */
+@Getter
+@RequiredArgsConstructor
+public class LikeCountResponseDTO {
+    private final Long id;
+    private final Long likes;
+}
@@ -0,0 +1,18 @@
+package december.spring.studywithme.dto;
+
+import lombok.Getter;
+
+/**
+ * 게시글 / 댓글과 좋아요를 누른 사용자 ID (좋아요 여부 색인 적재용)
+ */
+@Getter
+public class LikerDTO {
+    private final Long targetId;
+    private final Long userId;
+
+    // PostLikeRepository / CommentLikeRepository 좋아요 사용자 조회 쿼리의 생성자 프로젝션에서 사용
+    public LikerDTO(Long targetId, Long userId) {
+        this.targetId = targetId;
+        this.userId = userId;
+    }
+}
@@ -0,0 +1,76 @@
+package december.spring.studywithme.dto;
+
+import december.spring.studywithme.entity.PostSortType;
+import december.spring.studywithme.exception.PageException;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 커서 기반 페이지 조회에 사용하는 커서
+ * (정렬 기준 값, 게시글 ID) 쌍을 Base64 문자열로 인코딩하여 클라이언트에 전달한다.
+ */
+@Getter
+public class PostCursor {
+    private static final String DELIMITER = "|";
+
+    private final String sortBy;
+    private final LocalDateTime createdAt;
+    private final Long likes;
+    private final Long id;
+
+    private PostCursor(String sortBy, LocalDateTime createdAt, Long likes, Long id) {
+        this.sortBy = sortBy;
+        this.createdAt = createdAt;
+        this.likes = likes;
+        this.id = id;
+    }
+
+    /**
+     * 마지막으로 조회된 게시글로부터 커서 생성
+     * @param sortBy 게시글 정렬 기준
+     * @param post 마지막으로 조회된 게시글
+     * @return PostCursor 객체
+     */
+    public static PostCursor of(String sortBy, PostPreviewResponseDTO post) {
+        return new PostCursor(sortBy, post.getCreatedAt(), post.getLikes(), post.getId());
+    }
+
+    /**
+     * 커서 문자열 디코딩
+     * @param cursor 인코딩된 커서 문자열
+     * @param sortBy 게시글 정렬 기준
+     * @return PostCursor 객체
+     */
+    public static PostCursor decode(String cursor, String sortBy) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] values = decoded.split("\\" + DELIMITER);
+
+            if (values.length != 3 || !values[0].equals(sortBy)) {
+                throw new PageException("커서가 올바르지 않습니다.");
+            }
+
+            Long id = Long.parseLong(values[2]);
+            if (PostSortType.LIKES.getProperty().equals(sortBy)) {
+                return new PostCursor(sortBy, null, Long.parseLong(values[1]), id);
+            }
+            return new PostCursor(sortBy, LocalDateTime.parse(values[1]), null, id);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new PageException("커서가 올바르지 않습니다.");
+        }
+    }
+
+    /**
+     * 커서 문자열 인코딩
+     * @return 인코딩된 커서 문자열
+     */
+    public String encode() {
+        String sortValue = PostSortType.LIKES.getProperty().equals(sortBy) ? String.valueOf(likes) : createdAt.toString();
+        String raw = sortBy + DELIMITER + sortValue + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,29 @@
+package december.spring.studywithme.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Set;
+
+@Getter
+public class PostCursorResponseDTO {
+    private Integer size;
+    private String sortBy;
+    private Boolean hasNext;
+    private String nextCursor;
+    private List<PostPreviewResponseDTO> postList;
+
+    public PostCursorResponseDTO(String sortBy, List<PostPreviewResponseDTO> postList, String nextCursor) {
+        this.size = postList.size();
+        this.sortBy = sortBy;
+        this.hasNext = nextCursor != null;
+        this.nextCursor = nextCursor;
+        this.postList = postList;
+    }
+
+    public PostCursorResponseDTO markLiked(Set<Long> likedPostIds) {
+        return new PostCursorResponseDTO(sortBy, postList.stream()
+                .map(post -> post.withLikedByMe(likedPostIds.contains(post.getId())))
+                .toList(), nextCursor);
+    }
+}
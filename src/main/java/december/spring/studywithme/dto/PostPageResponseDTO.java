@@ -1,26 +1,42 @@
 package december.spring.studywithme.dto;
 
-import december.spring.studywithme.entity.Post;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import org.springframework.data.domain.Page;
 
 import java.util.List;
+import java.util.Set;
 
 @Getter
+@NoArgsConstructor
 public class PostPageResponseDTO {
     private Integer currentPage;
     private Long totalElements;
     private Integer totalPages;
     private Integer size;
     private String sortBy;
-    private List<PostResponseDTO> postList;
+    private List<PostPreviewResponseDTO> postList;
 
-    public PostPageResponseDTO(Integer currentPage, Page<Post> postPage) {
+    public PostPageResponseDTO(Integer currentPage, Page<PostPreviewResponseDTO> postPage) {
         this.currentPage = currentPage;
         this.totalElements = postPage.getTotalElements();
         this.totalPages = postPage.getTotalPages();
         this.size = postPage.getSize();
         this.sortBy = postPage.getSort().toString();
-        this.postList = postPage.getContent().stream().map(PostResponseDTO::new).toList();
+        this.postList = postPage.getContent();
+    }
+
+    // 캐시 / 스냅샷의 페이지를 변경하지 않도록 좋아요 여부를 표시한 사본을 만든다
+    public PostPageResponseDTO markLiked(Set<Long> likedPostIds) {
+        PostPageResponseDTO copy = new PostPageResponseDTO();
+        copy.currentPage = currentPage;
+        copy.totalElements = totalElements;
+        copy.totalPages = totalPages;
+        copy.size = size;
+        copy.sortBy = sortBy;
+        copy.postList = postList.stream()
+                .map(post -> post.withLikedByMe(likedPostIds.contains(post.getId())))
+                .toList();
+        return copy;
     }
 }
@@ -0,0 +1,50 @@
+package december.spring.studywithme.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록 조회용 DTO
+ * 내용 전체 대신 게시글 행에 저장된 앞부분(preview)과 내용 길이만 담는다. 전체 내용은 단일 게시글 조회로 확인한다.
+ */
+@Getter
+@NoArgsConstructor
+public class PostPreviewResponseDTO {
+    private Long id;
+    private String userId;
+    private String title;
+    private String preview;
+    private Integer contentsLength;
+    private Long likes;
+    private Long commentCount;
+    private LocalDateTime createdAt;
+    private LocalDateTime modifiedAt;
+
+    // 로그인한 사용자의 좋아요 여부 (비로그인 조회와 캐시 / 스냅샷에는 포함하지 않는다)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean likedByMe;
+
+    // PostRepository 목록 조회 쿼리의 생성자 프로젝션에서 사용
+    public PostPreviewResponseDTO(Long id, String userId, String title, String preview, Integer contentsLength, Long likes,
+                                  Long commentCount, LocalDateTime createdAt, LocalDateTime modifiedAt) {
+        this.id = id;
+        this.userId = userId;
+        this.title = title;
+        this.preview = preview;
+        this.contentsLength = contentsLength;
+        this.likes = likes;
+        this.commentCount = commentCount;
+        this.createdAt = createdAt;
+        this.modifiedAt = modifiedAt;
+    }
+
+    public PostPreviewResponseDTO withLikedByMe(boolean likedByMe) {
+        PostPreviewResponseDTO copy = new PostPreviewResponseDTO(id, userId, title, preview, contentsLength, likes,
+                commentCount, createdAt, modifiedAt);
+        copy.likedByMe = likedByMe;
+        return copy;
+    }
+}
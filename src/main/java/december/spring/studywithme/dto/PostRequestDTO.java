@@ -1,6 +1,8 @@
 package december.spring.studywithme.dto;
 
+import december.spring.studywithme.entity.PostBody;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -11,5 +13,6 @@ public class PostRequestDTO {
     private String title;
 
     @NotBlank
+    @Size(max = PostBody.MAX_LENGTH)
     private String contents;
 }
\ No newline at end of file
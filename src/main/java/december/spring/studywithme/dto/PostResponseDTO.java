@@ -2,11 +2,14 @@ package december.spring.studywithme.dto;
 
 import december.spring.studywithme.entity.Post;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 
 @Getter
+@NoArgsConstructor
 public class PostResponseDTO {
+    private Long id;
     private String userId;
     private String title;
     private String contents;
@@ -15,6 +18,7 @@ public class PostResponseDTO {
     private LocalDateTime modifiedAt;
 
     public PostResponseDTO(Post post) {
+        this.id = post.getId();
         this.userId = post.getUser().getUserId();
         this.title = post.getTitle();
         this.contents = post.getContents();
@@ -22,4 +26,21 @@ public class PostResponseDTO {
         this.createdAt = post.getCreatedAt();
         this.modifiedAt = post.getModifiedAt();
     }
+
+    // PostRepository 목록 조회 쿼리의 생성자 프로젝션에서 사용
+    public PostResponseDTO(Long id, String userId, String title, String contents, Long likes,
+                           LocalDateTime createdAt, LocalDateTime modifiedAt) {
+        this.id = id;
+        this.userId = userId;
+        this.title = title;
+        this.contents = contents;
+        this.likes = likes;
+        this.createdAt = createdAt;
+        this.modifiedAt = modifiedAt;
+    }
+
+    // 조건부 조회(If-None-Match)에 사용하는 ETag (수정 시각 + 좋아요 수)
+    public String toETag() {
+        return "post-" + id + "-" + modifiedAt + "-" + likes;
+    }
 }
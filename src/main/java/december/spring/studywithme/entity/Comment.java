@@ -5,16 +5,30 @@ import jakarta.persistence.*;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.List;
 
 @Entity
 @NoArgsConstructor
 @Getter
-@Table(name = "comment")
+@Table(name = "comment", indexes = {
+        @Index(name = "idx_comment_post_id_path", columnList = "post_id, path")
+})
 public class Comment extends Timestamped {
+    // 답글 단계 (최상위 댓글 0) 와 한 댓글에 달 수 있는 답글 수 제한
+    public static final int MAX_DEPTH = 3;
+    public static final int MAX_REPLIES = 100;
+
+    // 경로는 최상위 댓글부터 자신까지의 ID 를 고정 길이로 이어 붙인 문자열이다.
+    // 문자열 순서가 스레드 표시 순서(부모 → 답글 → 다음 형제)와 같고, 하위 스레드 전체가 경로 접두사 하나로 조회된다.
+    public static final int PATH_SEGMENT_LENGTH = 10;
+    public static final int PATH_LENGTH = PATH_SEGMENT_LENGTH * (MAX_DEPTH + 1);
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "comment_id")
+    @TableGenerator(name = "comment_id", table = IdSequence.TABLE, pkColumnName = IdSequence.PK_COLUMN,
+        valueColumnName = IdSequence.VALUE_COLUMN, pkColumnValue = "comment", allocationSize = IdSequence.ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -28,6 +42,28 @@ public class Comment extends Timestamped {
     @OneToMany(mappedBy = "comment", orphanRemoval = true)
     private List<CommentLike> commentLikeList;
 
+    // 하위 스레드를 경로 범위로 한 번에 삭제하므로 부모 댓글과 외래 키로 연결하지 않는다
+    private Long parentId;
+
+    // 기존 댓글은 빈 경로로 추가된 뒤 CommentService 가 시작 시 최상위 댓글 경로로 채운다
+    @Column(nullable = false, length = PATH_LENGTH)
+    @ColumnDefault("''")
+    private String path;
+
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private Integer depth;
+
+    // 형제 답글 중 순번 (1부터, 최상위 댓글은 0)
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private Integer replyOrder;
+
+    // 마지막으로 발급한 답글 순번 (삭제된 답글도 포함하며, 답글 수 제한에 사용)
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private Integer lastReplyOrder;
+
     @Column(nullable = false)
     private String contents;
 
@@ -35,11 +71,35 @@ public class Comment extends Timestamped {
     private Long likes;
 
     @Builder
-    public Comment(Post post, User user, String contents) {
+    public Comment(Post post, User user, String contents, Comment parent) {
         this.post = post;
         this.user = user;
         this.contents = contents;
         this.likes = 0L;
+        this.lastReplyOrder = 0;
+
+        if (parent == null) {
+            this.path = "";
+            this.depth = 0;
+            this.replyOrder = 0;
+        } else {
+            this.parentId = parent.getId();
+            this.path = parent.getPath();
+            this.depth = parent.getDepth() + 1;
+            this.replyOrder = parent.issueReplyOrder();
+        }
+    }
+
+    public boolean canReply() {
+        return depth < MAX_DEPTH;
+    }
+
+    public boolean hasReplySlot() {
+        return lastReplyOrder < MAX_REPLIES;
+    }
+
+    public boolean hasReplies() {
+        return lastReplyOrder > 0;
     }
 
     public void update(CommentRequestDTO requestDto) {
@@ -49,5 +109,16 @@ public class Comment extends Timestamped {
     public void updateCommentLikes(Long likes) {
         this.likes = likes;
     }
+
+    private int issueReplyOrder() {
+        return ++lastReplyOrder;
+    }
+
+    // ID 가 발급된 직후 CommentPathInterceptor 가 호출하여 부모 경로 뒤에 자신의 ID 를 붙인다 (insert 한 번에 저장)
+    public void completePath() {
+        if (path.length() == depth * PATH_SEGMENT_LENGTH) {
+            this.path = path + String.format("%0" + PATH_SEGMENT_LENGTH + "d", id);
+        }
+    }
 }
 
@@ -5,21 +5,26 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+/**
+ * 댓글 좋아요 ((comment_id, user_id) 를 기본 키로 사용)
+ */
 @Getter
 @Entity
 @NoArgsConstructor
-public class CommentLike extends Timestamped{
+@Table(name = "comment_like")
+public class CommentLike {
 
-    @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long id;
+    @EmbeddedId
+    private CommentLikeId id;
 
-    @ManyToOne
-    @JoinColumn(name = "user_id", nullable = false)
+    @MapsId("userId")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id")
     private User user;
 
-    @ManyToOne
-    @JoinColumn(name = "comment_id", nullable = false)
+    @MapsId("commentId")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "comment_id")
     private Comment comment;
 
     @Column(nullable = false)
@@ -28,6 +33,7 @@ public class CommentLike extends Timestamped{
 
     @Builder
     public CommentLike(User user, Comment comment, boolean isLike) {
+        this.id = new CommentLikeId(user.getId(), comment.getId());
         this.user = user;
         this.comment = comment;
         this.isLike = isLike;
@@ -0,0 +1,25 @@
+package december.spring.studywithme.entity;
+
+import jakarta.persistence.Embeddable;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * 댓글 좋아요 복합 키 (기본 키는 (comment_id, user_id))
+ */
+@Getter
+@Embeddable
+@NoArgsConstructor
+@EqualsAndHashCode
+public class CommentLikeId implements Serializable {
+    private Long userId;
+    private Long commentId;
+
+    public CommentLikeId(Long userId, Long commentId) {
+        this.userId = userId;
+        this.commentId = commentId;
+    }
+}
@@ -0,0 +1,18 @@
+package december.spring.studywithme.entity;
+
+/**
+ * 엔티티 ID 발급 테이블 설정
+ * MySQL 은 시퀀스를 지원하지 않으므로 id_sequence 테이블에 엔티티(테이블)별 행을 두고 pooled 방식으로 ID 를 미리 발급받는다.
+ * IDENTITY 와 달리 insert 전에 ID 가 정해지므로 Hibernate JDBC 배치 insert 를 사용할 수 있고,
+ * 발급 테이블은 ALLOCATION_SIZE 개의 ID 마다 한 번만 갱신된다.
+ * 각 행의 키는 대상 테이블 이름이다.
+ */
+public final class IdSequence {
+    public static final String TABLE = "id_sequence";
+    public static final String PK_COLUMN = "sequence_name";
+    public static final String VALUE_COLUMN = "next_val";
+    public static final int ALLOCATION_SIZE = 50;
+
+    private IdSequence() {
+    }
+}
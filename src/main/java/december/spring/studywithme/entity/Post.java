@@ -6,6 +6,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.List;
 
@@ -13,10 +14,17 @@ import java.util.List;
 @NoArgsConstructor
 @Getter
 @Setter
-@Table(name = "post")
+@Table(name = "post", indexes = {
+	@Index(name = "idx_post_created_at_id", columnList = "created_at desc, id desc"),
+	@Index(name = "idx_post_likes_id", columnList = "likes desc, id desc")
+})
 public class Post extends Timestamped {
+	public static final int PREVIEW_LENGTH = 100;
+
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "post_id")
+	@TableGenerator(name = "post_id", table = IdSequence.TABLE, pkColumnName = IdSequence.PK_COLUMN,
+		valueColumnName = IdSequence.VALUE_COLUMN, pkColumnValue = "post", allocationSize = IdSequence.ALLOCATION_SIZE)
 	private Long id;
 	
 	@ManyToOne(fetch = FetchType.LAZY)
@@ -26,8 +34,17 @@ public class Post extends Timestamped {
 	@Column(nullable = false)
 	private String title;
 	
+	// 본문은 단일 게시글 조회에서만 읽도록 별도 테이블에 저장 (기존 게시글의 본문은 시작 시 PostBodyInitializer 가 옮김)
+	@OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
+	@JoinColumn(name = "body_id", nullable = false)
+	private PostBody body;
+
+	// 목록 조회에서 본문을 읽지 않도록 본문 앞부분과 길이(문자 수)를 게시글 행에 함께 저장
+	@Column(nullable = false, length = PREVIEW_LENGTH)
+	private String preview;
+
 	@Column(nullable = false)
-	private String contents;
+	private Integer contentsLength;
 
 	@OneToMany(mappedBy = "post", orphanRemoval = true)
 	private List<Comment> commentList;
@@ -37,22 +54,41 @@ public class Post extends Timestamped {
 
 	@Column(nullable = false)
 	private Long likes;
+
+	// 목록 조회에서 댓글 테이블을 조인하지 않도록 댓글 수를 게시글 행에 함께 저장 (PostRepository 의 원자적 증감 쿼리로만 변경)
+	@Column(nullable = false)
+	@ColumnDefault("0")
+	private Long commentCount;
 	
 	@Builder
 	public Post(User user, String title, String contents)  {
 		this.user = user;
 		this.title = title;
-		this.contents = contents;
+		this.body = new PostBody(contents);
 		this.likes = 0L;
+		this.commentCount = 0L;
+		updatePreview(contents);
+	}
+
+	public String getContents() {
+		return body.getContents();
 	}
 
 	public void update(PostRequestDTO requestDto) {
 		this.title = requestDto.getTitle();
-		this.contents = requestDto.getContents();
+		this.body.update(requestDto.getContents());
+		updatePreview(requestDto.getContents());
 	}
 
 	public void updatePostLikes(Long likes) {
 		this.likes = likes;
 	}
+
+	private void updatePreview(String contents) {
+		// DB 의 문자 수 기준과 같도록 코드 포인트 단위로 자른다
+		int codePointCount = contents.codePointCount(0, contents.length());
+		this.preview = contents.substring(0, contents.offsetByCodePoints(0, Math.min(codePointCount, PREVIEW_LENGTH)));
+		this.contentsLength = codePointCount;
+	}
 }
 
@@ -0,0 +1,41 @@
+package december.spring.studywithme.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 게시글 본문
+ * 목록 조회, 좋아요, 게시글 검증 등 자주 읽히는 게시글 행을 좁게 유지하기 위해 본문은 별도 테이블에 저장하고,
+ * 단일 게시글 조회에서만 읽는다.
+ */
+@Entity
+@NoArgsConstructor
+@Getter
+@Table(name = "post_body")
+public class PostBody {
+	public static final int MAX_LENGTH = 100000;
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "post_body_id")
+	@TableGenerator(name = "post_body_id", table = IdSequence.TABLE, pkColumnName = IdSequence.PK_COLUMN,
+		valueColumnName = IdSequence.VALUE_COLUMN, pkColumnValue = "post_body", allocationSize = IdSequence.ALLOCATION_SIZE)
+	private Long id;
+
+	@Column(nullable = false, length = MAX_LENGTH)
+	private String contents;
+
+	public PostBody(String contents) {
+		this.contents = contents;
+	}
+
+	public void update(String contents) {
+		this.contents = contents;
+	}
+}
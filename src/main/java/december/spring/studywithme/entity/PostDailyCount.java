@@ -0,0 +1,26 @@
+package december.spring.studywithme.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 일자별 게시글 수
+ * 게시글 생성 / 삭제 시 함께 증감되며, 전체 / 기간별 게시글 수는 일자별 값을 합산하여 구한다.
+ */
+@Entity
+@NoArgsConstructor
+@Getter
+@Table(name = "post_daily_count")
+public class PostDailyCount {
+    @Id
+    private LocalDate postDate;
+
+    @Column(nullable = false)
+    private Long postCount;
+}
@@ -5,23 +5,29 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
-import java.sql.Time;
-
+/**
+ * 게시글 좋아요
+ * 별도의 ID 와 등록 / 수정 시각 없이 (post_id, user_id) 를 기본 키로 사용하여, 유니크 인덱스 없이도 중복 행이 생기지 않는다.
+ * 게시글별 좋아요 행이 기본 키 순서로 모여 있으므로 좋아요 사용자 조회와 좋아요 수 보정은 게시글 범위만 읽는다.
+ * 등록 / 토글은 PostLikeRepository 의 ID 기반 upsert 로만 처리하므로 사용자 / 게시글은 지연 로딩한다.
+ */
 @Getter
 @Entity
 @NoArgsConstructor
-public class PostLike extends Timestamped {
+@Table(name = "post_like")
+public class PostLike {
 
-    @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long id;
+    @EmbeddedId
+    private PostLikeId id;
 
-    @ManyToOne
-    @JoinColumn(name = "user_id", nullable = false)
+    @MapsId("userId")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id")
     private User user;
 
-    @ManyToOne
-    @JoinColumn(name = "post_id", nullable = false)
+    @MapsId("postId")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "post_id")
     private Post post;
 
     @Column(nullable = false)
@@ -29,6 +35,7 @@ public class PostLike extends Timestamped {
 
     @Builder
     public PostLike(User user, Post post, boolean isLike) {
+        this.id = new PostLikeId(user.getId(), post.getId());
         this.user = user;
         this.post = post;
         this.isLike = isLike;
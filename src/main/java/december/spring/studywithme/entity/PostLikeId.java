@@ -0,0 +1,25 @@
+package december.spring.studywithme.entity;
+
+import jakarta.persistence.Embeddable;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * 게시글 좋아요 복합 키 (Hibernate 는 복합 키 컬럼을 이름 순으로 정렬하므로 기본 키는 (post_id, user_id))
+ */
+@Getter
+@Embeddable
+@NoArgsConstructor
+@EqualsAndHashCode
+public class PostLikeId implements Serializable {
+    private Long userId;
+    private Long postId;
+
+    public PostLikeId(Long userId, Long postId) {
+        this.userId = userId;
+        this.postId = postId;
+    }
+}
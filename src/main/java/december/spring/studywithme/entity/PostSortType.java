@@ -0,0 +1,43 @@
+package december.spring.studywithme.entity;
+
+import december.spring.studywithme.exception.PageException;
+import lombok.Getter;
+import org.springframework.data.domain.Sort;
+
+import java.util.Arrays;
+
+/**
+ * 게시글 목록 정렬 기준
+ * 각 정렬 기준은 Post 의 (정렬 컬럼, id) 복합 인덱스로 정렬되며, 그 외의 정렬 기준은 허용하지 않는다.
+ */
+@Getter
+public enum PostSortType {
+    CREATED_AT("createdAt"),    // 최신순 (idx_post_created_at_id)
+    LIKES("likes");             // 좋아요순 (idx_post_likes_id)
+
+    private final String property;
+
+    PostSortType(String property) {
+        this.property = property;
+    }
+
+    /**
+     * 요청 파라미터로부터 정렬 기준 조회
+     * @param sortBy 게시글 정렬 기준
+     * @return PostSortType
+     */
+    public static PostSortType from(String sortBy) {
+        return Arrays.stream(values())
+                .filter(sortType -> sortType.property.equals(sortBy))
+                .findFirst()
+                .orElseThrow(() -> new PageException("지원하지 않는 정렬 기준입니다."));
+    }
+
+    /**
+     * 인덱스 순서와 같은 (정렬 컬럼 desc, id desc) 정렬 생성
+     * @return Sort 객체
+     */
+    public Sort toSort() {
+        return Sort.by(Sort.Direction.DESC, property, "id");
+    }
+}
@@ -15,6 +15,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import jakarta.persistence.Temporal;
 import jakarta.persistence.TemporalType;
 import jakarta.validation.constraints.NotNull;
@@ -29,7 +30,9 @@ import lombok.NoArgsConstructor;
 @Table(name = "user")
 public class User extends Timestamped {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "user_id")
+    @TableGenerator(name = "user_id", table = IdSequence.TABLE, pkColumnName = IdSequence.PK_COLUMN,
+        valueColumnName = IdSequence.VALUE_COLUMN, pkColumnValue = "user", allocationSize = IdSequence.ALLOCATION_SIZE)
     private Long id;
     
     @Column(nullable = false, unique = true)
@@ -0,0 +1,16 @@
+package december.spring.studywithme.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 댓글 좋아요 등록 / 취소 시 발행되는 이벤트
+ */
+@Getter
+@RequiredArgsConstructor
+public class CommentLikedEvent {
+    private final Long postId;
+    private final Long commentId;
+    private final Long userId;
+    private final boolean liked;
+}
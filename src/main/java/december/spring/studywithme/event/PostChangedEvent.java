@@ -0,0 +1,14 @@
+package december.spring.studywithme.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 게시글 생성 / 수정 / 삭제 / 좋아요 수 / 댓글 수 변경 시 발행되는 이벤트
+ * (생성 / 수정 / 삭제는 하위 이벤트인 PostContentChangedEvent 로 발행된다)
+ */
+@Getter
+@RequiredArgsConstructor
+public class PostChangedEvent {
+    private final Long postId;
+}
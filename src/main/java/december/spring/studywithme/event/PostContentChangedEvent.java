@@ -0,0 +1,12 @@
+package december.spring.studywithme.event;
+
+/**
+ * 게시글 생성 / 수정 / 삭제 시 발행되는 이벤트
+ * 제목 / 본문이나 목록에 포함되는 게시글이 바뀌는 경우에만 발행되며, 좋아요 / 댓글 수 변경에는 발행되지 않는다.
+ * PostChangedEvent 를 상속하므로 모든 변경을 받는 리스너에도 함께 전달된다.
+ */
+public class PostContentChangedEvent extends PostChangedEvent {
+    public PostContentChangedEvent(Long postId) {
+        super(postId);
+    }
+}
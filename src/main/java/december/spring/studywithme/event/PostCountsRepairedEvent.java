@@ -0,0 +1,8 @@
+package december.spring.studywithme.event;
+
+/**
+ * 게시글 좋아요 / 댓글 수를 일괄 보정한 후 발행되는 이벤트
+ * 보정된 게시글을 하나씩 알 수 없으므로, 게시글 캐시 전체를 다시 읽도록 한다.
+ */
+public class PostCountsRepairedEvent {
+}
@@ -0,0 +1,11 @@
+package december.spring.studywithme.event;
+
+/**
+ * 게시글 삭제 시 발행되는 이벤트
+ * PostContentChangedEvent 를 상속하므로 생성 / 수정 / 삭제를 받는 리스너에도 함께 전달된다.
+ */
+public class PostDeletedEvent extends PostContentChangedEvent {
+    public PostDeletedEvent(Long postId) {
+        super(postId);
+    }
+}
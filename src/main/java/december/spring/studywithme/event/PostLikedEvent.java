@@ -0,0 +1,15 @@
+package december.spring.studywithme.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 게시글 좋아요 등록 / 취소 시 발행되는 이벤트
+ */
+@Getter
+@RequiredArgsConstructor
+public class PostLikedEvent {
+    private final Long postId;
+    private final Long userId;
+    private final boolean liked;
+}
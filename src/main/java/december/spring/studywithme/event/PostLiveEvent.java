@@ -0,0 +1,35 @@
+package december.spring.studywithme.event;
+
+import december.spring.studywithme.dto.CommentResponseDTO;
+import december.spring.studywithme.dto.LikeCountResponseDTO;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 게시글을 보고 있는 클라이언트에게 실시간으로 전달할 변경 이벤트 (댓글 등록, 좋아요 수 변경)
+ * name 은 SSE 이벤트 이름, data 는 JSON 으로 직렬화되어 전달된다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class PostLiveEvent {
+    public static final String COMMENT_CREATED = "comment";
+    public static final String POST_LIKES_CHANGED = "post-likes";
+    public static final String COMMENT_LIKES_CHANGED = "comment-likes";
+
+    private final Long postId;
+    private final String name;
+    private final Object data;
+
+    public static PostLiveEvent commentCreated(Long postId, CommentResponseDTO comment) {
+        return new PostLiveEvent(postId, COMMENT_CREATED, comment);
+    }
+
+    public static PostLiveEvent postLikesChanged(Long postId, Long likes) {
+        return new PostLiveEvent(postId, POST_LIKES_CHANGED, new LikeCountResponseDTO(postId, likes));
+    }
+
+    public static PostLiveEvent commentLikesChanged(Long postId, Long commentId, Long likes) {
+        return new PostLiveEvent(postId, COMMENT_LIKES_CHANGED, new LikeCountResponseDTO(commentId, likes));
+    }
+}
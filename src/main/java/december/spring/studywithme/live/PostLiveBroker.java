@@ -0,0 +1,362 @@
+package december.spring.studywithme.live;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import december.spring.studywithme.event.PostLiveEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 게시글별 실시간 이벤트(SSE) 브로커
+ * 게시글 화면이 주기적으로 게시글과 댓글 목록을 다시 조회하지 않도록, 댓글 등록과 좋아요 수 변경을 구독자에게 바로 전달한다.
+ * 이벤트는 한 번만 직렬화하여 구독자별 크기가 정해진 큐에 넣고, 전송 스레드가 구독자마다 순서대로 보낸다.
+ * 큐가 가득 찬 (받는 속도가 느린) 구독자는 연결을 끊어 다른 구독자와 메모리에 영향을 주지 않게 하고,
+ * 한 번의 전송이 send-timeout 을 넘긴 (받지 않는) 구독자는 연결을 끊고 전송이 끝날 때까지 전송 스레드를 하나 더 두어
+ * 막힌 전송 스레드 때문에 다른 구독자의 전송이 밀리지 않게 한다.
+ * 주기적인 heartbeat 로 프록시의 유휴 연결 종료를 막으면서 끊어진 연결을 정리한다.
+ * 여러 서버에서 실행하는 경우 post.live.relay.enabled=true 로 PostLiveRedisRelay 를 통해 이벤트를 전달한다.
+ */
+@Slf4j
+@Component
+public class PostLiveBroker {
+	private static final String HEARTBEAT = "heartbeat";
+
+	private final ObjectMapper objectMapper;
+	private final Duration timeout;
+	private final int queueCapacity;
+	private final Duration sendTimeout;
+	private final int maxSenderThreads;
+	private final boolean relayEnabled;
+	private final ThreadPoolExecutor executor;
+
+	private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+	private final AtomicInteger subscriberCount = new AtomicInteger();
+	private final Counter evictions;
+
+	@Autowired
+	public PostLiveBroker(ObjectMapper objectMapper, MeterRegistry meterRegistry,
+						  @Value("${post.live.timeout:PT30M}") Duration timeout,
+						  @Value("${post.live.queue-capacity:32}") int queueCapacity,
+						  @Value("${post.live.sender-threads:4}") int senderThreads,
+						  @Value("${post.live.send-timeout:PT5S}") Duration sendTimeout,
+						  @Value("${post.live.max-sender-threads:16}") int maxSenderThreads,
+						  @Value("${post.live.relay.enabled:false}") boolean relayEnabled) {
+		this(objectMapper, meterRegistry, timeout, queueCapacity, sendTimeout, maxSenderThreads, relayEnabled,
+			createExecutor(senderThreads));
+	}
+
+	PostLiveBroker(ObjectMapper objectMapper, MeterRegistry meterRegistry, Duration timeout, int queueCapacity,
+				   Duration sendTimeout, int maxSenderThreads, boolean relayEnabled, ThreadPoolExecutor executor) {
+		this.objectMapper = objectMapper;
+		this.timeout = timeout;
+		this.queueCapacity = queueCapacity;
+		this.sendTimeout = sendTimeout;
+		this.maxSenderThreads = maxSenderThreads;
+		this.relayEnabled = relayEnabled;
+		this.executor = executor;
+		meterRegistry.gauge("post.live.subscribers", subscriberCount);
+		this.evictions = Counter.builder("post.live.evictions")
+			.description("큐가 가득 차거나 전송이 지연되어 연결을 끊은 실시간 구독 수")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 1. 게시글 실시간 구독
+	 * (OSIV 로 DB 연결이 스트림 동안 유지되지 않도록 게시글을 조회하지 않는다. 없는 게시글은 heartbeat 만 전달된다)
+	 * @param postId 게시글 ID
+	 * @return SseEmitter 구독 연결
+	 */
+	public SseEmitter subscribe(Long postId) {
+		return subscribe(postId, new SseEmitter(timeout.toMillis()));
+	}
+
+	SseEmitter subscribe(Long postId, SseEmitter emitter) {
+		Subscriber subscriber = new Subscriber(postId, emitter);
+
+		emitter.onTimeout(emitter::complete);
+		emitter.onCompletion(() -> remove(subscriber));
+		emitter.onError(e -> remove(subscriber));
+
+		subscribers.compute(postId, (id, postSubscribers) -> {
+			Set<Subscriber> result = postSubscribers == null ? ConcurrentHashMap.newKeySet() : postSubscribers;
+			result.add(subscriber);
+			return result;
+		});
+		subscriberCount.incrementAndGet();
+
+		// 첫 이벤트로 응답을 바로 시작하여 클라이언트가 연결 성공을 알 수 있게 한다
+		subscriber.offer(SseEmitter.event().comment("connected").build());
+		return emitter;
+	}
+
+	/**
+	 * 2. 게시글 구독자에게 이벤트 전달
+	 * @param postId 게시글 ID
+	 * @param name 이벤트 이름
+	 * @param data JSON 으로 직렬화된 이벤트 데이터
+	 */
+	public void dispatch(Long postId, String name, String data) {
+		Set<Subscriber> postSubscribers = subscribers.get(postId);
+		if (postSubscribers == null) {
+			return;
+		}
+
+		Set<DataWithMediaType> event = SseEmitter.event().name(name).data(data).build();
+		postSubscribers.forEach(subscriber -> subscriber.offer(event));
+	}
+
+	/**
+	 * 이벤트 데이터 직렬화
+	 * @param event 실시간 이벤트
+	 * @return JSON 문자열
+	 */
+	public String serialize(PostLiveEvent event) {
+		try {
+			return objectMapper.writeValueAsString(event.getData());
+		} catch (JsonProcessingException e) {
+			throw new IllegalArgumentException("실시간 이벤트를 직렬화할 수 없습니다.", e);
+		}
+	}
+
+	/**
+	 * 게시글 구독자 수 조회
+	 * @param postId 게시글 ID
+	 * @return 구독자 수
+	 */
+	public int countSubscribers(Long postId) {
+		Set<Subscriber> postSubscribers = subscribers.get(postId);
+		return postSubscribers == null ? 0 : postSubscribers.size();
+	}
+
+	/**
+	 * 변경 트랜잭션이 커밋된 후 구독자에게 전달 (롤백된 변경은 전달하지 않는다)
+	 * @param event 실시간 이벤트
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void handlePostLive(PostLiveEvent event) {
+		// relay 를 사용하면 Redis 로 받은 이벤트만 전달하여 같은 서버의 구독자가 두 번 받지 않게 한다
+		if (relayEnabled || !subscribers.containsKey(event.getPostId())) {
+			return;
+		}
+
+		try {
+			dispatch(event.getPostId(), event.getName(), serialize(event));
+		} catch (RuntimeException e) {
+			log.warn("[PostLiveBroker] 이벤트 전달 실패 : {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * 전체 구독자에게 heartbeat 전달
+	 * 끊어진 연결은 전송 실패로, 받지 못하는 연결은 큐가 가득 차서 정리된다.
+	 */
+	@Scheduled(fixedDelayString = "${post.live.heartbeat-interval:PT15S}")
+	public void heartbeat() {
+		Set<DataWithMediaType> event = SseEmitter.event().comment(HEARTBEAT).build();
+		subscribers.values().forEach(postSubscribers -> postSubscribers.forEach(subscriber -> subscriber.offer(event)));
+	}
+
+	/**
+	 * 전송이 지연된 구독 정리
+	 * 받지 않는 클라이언트로의 전송은 컨테이너의 쓰기 시간 초과까지 전송 스레드를 붙잡으므로, send-timeout 을 넘긴 구독은
+	 * 더 이상 이벤트를 받지 않도록 연결을 끊고, 막힌 전송이 끝날 때까지 전송 스레드를 하나 더 둔다 (max-sender-threads 까지).
+	 */
+	@Scheduled(fixedDelayString = "${post.live.send-timeout:PT5S}")
+	public void checkStalledSends() {
+		long now = System.nanoTime();
+		subscribers.values().forEach(postSubscribers -> postSubscribers.forEach(subscriber -> {
+			long sendStartedAt = subscriber.sendStartedAt;
+			if (sendStartedAt == 0 || now - sendStartedAt < sendTimeout.toNanos()) {
+				return;
+			}
+
+			evict(subscriber);
+			if (addSpareSender()) {
+				subscriber.spareSender.set(true);
+				// 전송이 그사이 끝났으면 전송 스레드가 보지 못했을 수 있으므로 여기서 되돌린다
+				if (subscriber.sendStartedAt == 0 && subscriber.spareSender.getAndSet(false)) {
+					releaseSpareSender();
+				}
+			}
+		}));
+	}
+
+	@PreDestroy
+	public void close() throws InterruptedException {
+		List<Subscriber> remaining = subscribers.values().stream().flatMap(Set::stream).toList();
+		remaining.forEach(subscriber -> {
+			remove(subscriber);
+			subscriber.emitter.complete();
+		});
+		executor.shutdown();
+		executor.awaitTermination(5, TimeUnit.SECONDS);
+	}
+
+	/**
+	 * 구독 제거 (완료 / 오류 / 시간 초과 / 강제 종료 콜백이 여러 번 호출되어도 한 번만 처리)
+	 * @param subscriber 구독
+	 * @return 이번 호출에서 제거되었는지 여부
+	 */
+	private boolean remove(Subscriber subscriber) {
+		if (!subscriber.closed.compareAndSet(false, true)) {
+			return false;
+		}
+
+		subscribers.computeIfPresent(subscriber.postId, (id, postSubscribers) -> {
+			postSubscribers.remove(subscriber);
+			return postSubscribers.isEmpty() ? null : postSubscribers;
+		});
+		subscriberCount.decrementAndGet();
+		subscriber.queue.clear();
+		return true;
+	}
+
+	/**
+	 * 느린 구독 강제 종료
+	 * @param subscriber 구독
+	 */
+	private void evict(Subscriber subscriber) {
+		if (!remove(subscriber)) {
+			return;
+		}
+
+		evictions.increment();
+		log.info("[PostLiveBroker] 느린 구독 종료 : postId={}", subscriber.postId);
+		subscriber.completeWhenIdle();
+	}
+
+	private synchronized boolean addSpareSender() {
+		int size = executor.getMaximumPoolSize();
+		if (size >= maxSenderThreads) {
+			return false;
+		}
+		executor.setMaximumPoolSize(size + 1);
+		executor.setCorePoolSize(size + 1);
+		return true;
+	}
+
+	private synchronized void releaseSpareSender() {
+		int size = executor.getCorePoolSize() - 1;
+		executor.setCorePoolSize(size);
+		executor.setMaximumPoolSize(size);
+	}
+
+	private static ThreadPoolExecutor createExecutor(int senderThreads) {
+		AtomicInteger threadNumber = new AtomicInteger();
+		return new ThreadPoolExecutor(senderThreads, senderThreads, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+			runnable -> {
+				Thread thread = new Thread(runnable, "post-live-sender-" + threadNumber.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			});
+	}
+
+	/**
+	 * 구독 연결과 전송 대기 큐
+	 * 한 구독의 전송은 한 번에 하나의 전송 스레드만 수행하므로 이벤트 순서가 유지된다.
+	 */
+	private class Subscriber {
+		private final Long postId;
+		private final SseEmitter emitter;
+		private final BlockingQueue<Set<DataWithMediaType>> queue = new ArrayBlockingQueue<>(queueCapacity);
+		private final AtomicBoolean draining = new AtomicBoolean(false);
+		private final AtomicBoolean closed = new AtomicBoolean(false);
+		private final AtomicBoolean spareSender = new AtomicBoolean(false);
+		private volatile long sendStartedAt;
+
+		Subscriber(Long postId, SseEmitter emitter) {
+			this.postId = postId;
+			this.emitter = emitter;
+		}
+
+		void offer(Set<DataWithMediaType> event) {
+			if (closed.get()) {
+				return;
+			}
+			if (!queue.offer(event)) {
+				evict(this);
+				return;
+			}
+			if (draining.compareAndSet(false, true)) {
+				try {
+					executor.execute(this::drain);
+				} catch (RejectedExecutionException e) {
+					draining.set(false);
+				}
+			}
+		}
+
+		void drain() {
+			try {
+				do {
+					Set<DataWithMediaType> event;
+					while (!closed.get() && (event = queue.poll()) != null) {
+						send(event);
+					}
+					draining.set(false);
+				} while (!closed.get() && !queue.isEmpty() && draining.compareAndSet(false, true));
+			} catch (IOException | IllegalStateException e) {
+				// 클라이언트가 연결을 끊었거나 이미 완료된 연결
+				draining.set(false);
+				remove(this);
+				return;
+			}
+
+			if (closed.get()) {
+				completeWhenIdle();
+			}
+		}
+
+		/**
+		 * 강제 종료된 구독의 연결 완료
+		 * complete 는 진행 중인 전송이 끝날 때까지 기다리므로, 이벤트를 발행한 스레드가 막히지 않도록 전송 스레드에서 실행하고,
+		 * 전송 중이면 전송을 마친 drain 이 다시 호출한다.
+		 */
+		void completeWhenIdle() {
+			if (!draining.compareAndSet(false, true)) {
+				return;
+			}
+			try {
+				executor.execute(emitter::complete);
+			} catch (RejectedExecutionException e) {
+				// 종료 중에는 close 가 연결을 정리한다
+			}
+		}
+
+		private void send(Set<DataWithMediaType> event) throws IOException {
+			sendStartedAt = System.nanoTime();
+			try {
+				emitter.send(event);
+			} finally {
+				sendStartedAt = 0;
+				if (spareSender.getAndSet(false)) {
+					releaseSpareSender();
+				}
+			}
+		}
+	}
+}
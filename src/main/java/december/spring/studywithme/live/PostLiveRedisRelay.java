@@ -0,0 +1,88 @@
+package december.spring.studywithme.live;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import december.spring.studywithme.event.PostLiveEvent;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 서버 간 실시간 이벤트 전달 (post.live.relay.enabled=true 인 경우에만 사용)
+ * 커밋된 이벤트를 Redis pub/sub 채널로 발행하고, 자신을 포함한 모든 서버가 채널에서 받은 이벤트를 각자의 구독자에게 전달한다.
+ * pub/sub 은 전달을 보장하지 않으므로, 놓친 이벤트는 클라이언트가 다시 연결할 때 게시글 / 댓글 조회로 보충한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "post.live.relay.enabled", havingValue = "true")
+public class PostLiveRedisRelay implements MessageListener {
+	static final String CHANNEL = "post:live";
+
+	private final StringRedisTemplate redisTemplate;
+	private final PostLiveBroker postLiveBroker;
+	private final ObjectMapper objectMapper;
+
+	public PostLiveRedisRelay(StringRedisTemplate redisTemplate, RedisMessageListenerContainer redisMessageListenerContainer,
+							  PostLiveBroker postLiveBroker, ObjectMapper objectMapper) {
+		this.redisTemplate = redisTemplate;
+		this.postLiveBroker = postLiveBroker;
+		this.objectMapper = objectMapper;
+		redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+	}
+
+	/**
+	 * 변경 트랜잭션이 커밋된 후 채널로 발행
+	 * @param event 실시간 이벤트
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void handlePostLive(PostLiveEvent event) {
+		try {
+			RelayMessage message = new RelayMessage(event.getPostId(), event.getName(), postLiveBroker.serialize(event));
+			redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(message));
+		} catch (JsonProcessingException | RuntimeException e) {
+			log.warn("[PostLiveRedisRelay] 이벤트 발행 실패 : {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * 채널에서 받은 이벤트를 이 서버의 구독자에게 전달
+	 * @param message Redis 메시지
+	 * @param pattern 구독 패턴
+	 */
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		try {
+			RelayMessage relayMessage = objectMapper.readValue(new String(message.getBody(), StandardCharsets.UTF_8), RelayMessage.class);
+			postLiveBroker.dispatch(relayMessage.getPostId(), relayMessage.getName(), relayMessage.getData());
+		} catch (JsonProcessingException e) {
+			log.warn("[PostLiveRedisRelay] 이벤트 수신 실패 : {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * 채널로 주고받는 이벤트 (data 는 이미 직렬화된 JSON 문자열)
+	 */
+	@Getter
+	@NoArgsConstructor
+	static class RelayMessage {
+		private Long postId;
+		private String name;
+		private String data;
+
+		RelayMessage(Long postId, String name, String data) {
+			this.postId = postId;
+			this.name = name;
+			this.data = data;
+		}
+	}
+}
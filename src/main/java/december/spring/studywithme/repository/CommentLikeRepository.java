@@ -1,15 +1,27 @@
 package december.spring.studywithme.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
-import december.spring.studywithme.entity.Comment;
+import december.spring.studywithme.dto.LikerDTO;
 import december.spring.studywithme.entity.CommentLike;
-import december.spring.studywithme.entity.User;
-import io.lettuce.core.dynamic.annotation.Param;
+import december.spring.studywithme.entity.CommentLikeId;
+import org.springframework.data.repository.query.Param;
 
-public interface CommentLikeRepository extends JpaRepository<CommentLike, Long> {
-    CommentLike findByUserAndComment(User user, Comment comment);
+import java.util.Collection;
+import java.util.List;
 
-    @Query("SELECT COUNT(cl) FROM CommentLike cl WHERE cl.comment = :comment AND cl.isLike = true")
-    Long countByCommentAndIsLike(@Param("comment") Comment comment);
+public interface CommentLikeRepository extends JpaRepository<CommentLike, CommentLikeId> {
+    // (comment_id, user_id) 기본 키로 첫 등록과 토글을 한 문장에서 처리 (반환값은 등록된 경우 1, 기존 행을 토글한 경우 2)
+    @Modifying
+    @Query(value = "insert into comment_like (user_id, comment_id, is_like) values (:userId, :commentId, true) " +
+            "on duplicate key update is_like = not is_like", nativeQuery = true)
+    int toggle(@Param("userId") Long userId, @Param("commentId") Long commentId);
+
+    @Query("select commentLike.isLike from CommentLike commentLike where commentLike.id.userId = :userId and commentLike.id.commentId = :commentId")
+    boolean findIsLike(@Param("userId") Long userId, @Param("commentId") Long commentId);
+
+    @Query("select new december.spring.studywithme.dto.LikerDTO(commentLike.id.commentId, commentLike.id.userId) " +
+            "from CommentLike commentLike where commentLike.id.commentId in :commentIds and commentLike.isLike = true")
+    List<LikerDTO> findLikersByCommentIdIn(@Param("commentIds") Collection<Long> commentIds);
 }
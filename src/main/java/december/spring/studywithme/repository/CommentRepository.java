@@ -1,12 +1,105 @@
 package december.spring.studywithme.repository;
 
+import december.spring.studywithme.dto.CommentResponseDTO;
+import december.spring.studywithme.dto.CommentVersionDTO;
 import december.spring.studywithme.entity.Comment;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
+    // 엔티티 대신 CommentResponseDTO 에 필요한 컬럼만 작성자와 조인하여 조회 (게시글은 조인하지 않고 외래 키 값만 사용)
+    String COMMENT_RESPONSE_SELECT = "select new december.spring.studywithme.dto.CommentResponseDTO(" +
+            "comment.id, writer.userId, comment.post.id, comment.parentId, comment.depth, comment.path, " +
+            "comment.contents, comment.createdAt, comment.modifiedAt) " +
+            "from Comment comment join comment.user writer ";
 
+    // 최상위 댓글과 각 댓글의 앞쪽 답글을 스레드 순서로 조회 ((post_id, path) 인덱스 범위 스캔 한 번)
+    @Query(COMMENT_RESPONSE_SELECT +
+            "where comment.post.id = :postId and comment.path > :cursorPath " +
+            "and (comment.depth = 0 or (comment.depth = 1 and comment.replyOrder <= :replyLimit)) " +
+            "order by comment.path")
+    List<CommentResponseDTO> findThreadsByCursor(@Param("postId") Long postId, @Param("cursorPath") String cursorPath,
+                                                 @Param("replyLimit") int replyLimit, Pageable pageable);
+
+    // 하위 스레드 전체를 스레드 순서로 조회 (경로 접두사 범위 스캔)
+    @Query(COMMENT_RESPONSE_SELECT +
+            "where comment.post.id = :postId and comment.path like concat(:path, '%') and comment.path > :cursorPath " +
+            "order by comment.path")
+    List<CommentResponseDTO> findSubtreeByCursor(@Param("postId") Long postId, @Param("path") String path,
+                                                 @Param("cursorPath") String cursorPath, Pageable pageable);
+
+    @Query("select comment.path from Comment comment where comment.post.id = :postId and comment.id = :commentId")
+    Optional<String> findPathByPostIdAndId(@Param("postId") Long postId, @Param("commentId") Long commentId);
+
+    @Query("select comment.user.id from Comment comment where comment.post.id = :postId and comment.id = :commentId")
+    Optional<Long> findUserIdByPostIdAndId(@Param("postId") Long postId, @Param("commentId") Long commentId);
+
+    // 답글 등록 시 답글 순번 발급과 답글 수 제한 확인이 겹치지 않도록 부모 댓글을 잠근다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select comment from Comment comment where comment.post.id = :postId and comment.id = :commentId")
+    Optional<Comment> findForUpdateByPostIdAndId(@Param("postId") Long postId, @Param("commentId") Long commentId);
+
+    // 하위 스레드 삭제 (댓글 좋아요 → 댓글 순으로 삭제)
+    @Modifying
+    @Query("delete from CommentLike commentLike where commentLike.id.commentId in " +
+            "(select comment.id from Comment comment where comment.post.id = :postId and comment.path like concat(:path, '%'))")
+    void deleteLikesInSubtree(@Param("postId") Long postId, @Param("path") String path);
+
+    @Modifying
+    @Query("delete from Comment comment where comment.post.id = :postId and comment.path like concat(:path, '%')")
+    int deleteSubtree(@Param("postId") Long postId, @Param("path") String path);
+
+    // 경로 도입 전에 등록된 댓글을 최상위 댓글로 채움
+    @Modifying
+    @Query(value = "update comment set path = lpad(id, " + Comment.PATH_SEGMENT_LENGTH + ", '0') where path = ''", nativeQuery = true)
+    int fillMissingPaths();
+
+    // 응답 변환 / 작성자 확인에 필요한 작성자를 함께 조회
+    @EntityGraph(attributePaths = "user")
     Optional<Comment> findByPostIdAndId(Long postId, Long commentId);
+
+    // 조건부 조회용 (댓글 엔티티 대신 댓글 수와 가장 최근 수정 시각만 조회)
+    @Query("select new december.spring.studywithme.dto.CommentVersionDTO(count(comment), max(comment.modifiedAt)) " +
+            "from Comment comment where comment.post.id = :postId")
+    CommentVersionDTO findCommentVersionByPostId(@Param("postId") Long postId);
+
+    @Query("select comment.modifiedAt from Comment comment where comment.post.id = :postId and comment.id = :commentId")
+    Optional<LocalDateTime> findModifiedAtByPostIdAndId(@Param("postId") Long postId, @Param("commentId") Long commentId);
+
+    // 좋아요 수는 토글 결과에 따라 DB 에서 원자적으로 증감 (좋아요 전체를 세지 않는다)
+    @Modifying
+    @Query("update Comment comment set comment.likes = comment.likes + 1 where comment.id = :id")
+    void increaseLikes(@Param("id") Long id);
+
+    @Modifying
+    @Query("update Comment comment set comment.likes = " +
+            "case when comment.likes > 0 then comment.likes - 1 else 0 end " +
+            "where comment.id = :id")
+    void decreaseLikes(@Param("id") Long id);
+
+    @Query("select comment.likes from Comment comment where comment.id = :id")
+    Long findLikesById(@Param("id") Long id);
+
+    @Query("select coalesce(max(comment.id), 0) from Comment comment")
+    Long findMaxId();
+
+    // 좋아요 수 보정 (id 구간 단위로 실제 좋아요 수와 다른 댓글만 갱신, 구간마다 별도 트랜잭션)
+    @Transactional
+    @Modifying
+    @Query("update Comment comment set comment.likes = " +
+            "(select count(commentLike) from CommentLike commentLike where commentLike.id.commentId = comment.id and commentLike.isLike = true) " +
+            "where comment.id > :startId and comment.id <= :endId and comment.likes <> " +
+            "(select count(commentLike) from CommentLike commentLike where commentLike.id.commentId = comment.id and commentLike.isLike = true)")
+    int repairLikes(@Param("startId") Long startId, @Param("endId") Long endId);
 }
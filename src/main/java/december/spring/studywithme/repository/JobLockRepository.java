@@ -0,0 +1,47 @@
+package december.spring.studywithme.repository;
+
+import java.time.Duration;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 여러 서버에서 실행되는 예약 작업의 잠금 / 완료 표시
+ * 잠금은 해제하지 않고 유지 시간이 지나면 사라지므로, 같은 시각에 시작한 서버 중 한 서버만 작업을 수행한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class JobLockRepository {
+	private final StringRedisTemplate redisTemplate;
+	static final String LOCK_KEY_PREFIX = "job:lock:";
+	static final String DONE_KEY_PREFIX = "job:done:";
+
+	/**
+	 * 작업 잠금 획득
+	 * @param job 작업 이름
+	 * @param ttl 잠금 유지 시간
+	 * @return 잠금 획득 여부
+	 */
+	public boolean acquire(String job, Duration ttl) {
+		return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LOCK_KEY_PREFIX + job, "1", ttl));
+	}
+
+	/**
+	 * 한 번만 실행하는 작업의 완료 여부 조회
+	 * @param job 작업 이름
+	 * @return 완료 여부
+	 */
+	public boolean isDone(String job) {
+		return Boolean.TRUE.equals(redisTemplate.hasKey(DONE_KEY_PREFIX + job));
+	}
+
+	/**
+	 * 한 번만 실행하는 작업의 완료 표시
+	 * @param job 작업 이름
+	 */
+	public void markDone(String job) {
+		redisTemplate.opsForValue().set(DONE_KEY_PREFIX + job, "1");
+	}
+}
@@ -0,0 +1,32 @@
+package december.spring.studywithme.repository;
+
+import december.spring.studywithme.entity.PostDailyCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+
+public interface PostDailyCountRepository extends JpaRepository<PostDailyCount, LocalDate> {
+
+    @Modifying
+    @Query(value = "insert into post_daily_count (post_date, post_count) values (:postDate, 1) " +
+            "on duplicate key update post_count = post_count + 1", nativeQuery = true)
+    void increaseCount(@Param("postDate") LocalDate postDate);
+
+    @Modifying
+    @Query("update PostDailyCount c set c.postCount = c.postCount - 1 " +
+            "where c.postDate = :postDate and c.postCount > 0")
+    void decreaseCount(@Param("postDate") LocalDate postDate);
+
+    @Query("select coalesce(sum(c.postCount), 0) from PostDailyCount c " +
+            "where c.postDate >= :startDate and c.postDate < :finishDate")
+    Long sumCountByPeriod(@Param("startDate") LocalDate startDate, @Param("finishDate") LocalDate finishDate);
+
+    @Modifying
+    @Query(value = "insert into post_daily_count (post_date, post_count) " +
+            "select cast(created_at as date), count(*) from post group by cast(created_at as date) " +
+            "on duplicate key update post_count = values(post_count)", nativeQuery = true)
+    void rebuildCounts();
+}
@@ -1,16 +1,30 @@
 package december.spring.studywithme.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
-import december.spring.studywithme.entity.Post;
+import december.spring.studywithme.dto.LikerDTO;
 import december.spring.studywithme.entity.PostLike;
-import december.spring.studywithme.entity.User;
-import io.lettuce.core.dynamic.annotation.Param;
+import december.spring.studywithme.entity.PostLikeId;
+import org.springframework.data.repository.query.Param;
 
-public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
-    PostLike findByUserAndPost(User user, Post post);
+import java.util.Collection;
+import java.util.List;
 
-    @Query("SELECT COUNT(p1) FROM PostLike p1 WHERE p1.post = :post AND p1.isLike = true")
-    Long countByPostAndIsLike(@Param("post") Post post);
-}
\ No newline at end of file
+public interface PostLikeRepository extends JpaRepository<PostLike, PostLikeId> {
+    // (post_id, user_id) 기본 키로 첫 등록과 토글을 한 문장에서 처리 (조회 후 저장 사이에 중복 행이 생기지 않는다)
+    // 반환값은 등록된 경우 1, 기존 행을 토글한 경우 2
+    @Modifying
+    @Query(value = "insert into post_like (user_id, post_id, is_like) values (:userId, :postId, true) " +
+            "on duplicate key update is_like = not is_like", nativeQuery = true)
+    int toggle(@Param("userId") Long userId, @Param("postId") Long postId);
+
+    @Query("select postLike.isLike from PostLike postLike where postLike.id.userId = :userId and postLike.id.postId = :postId")
+    boolean findIsLike(@Param("userId") Long userId, @Param("postId") Long postId);
+
+    // 게시글별 좋아요를 누른 사용자 ID (좋아요 여부 색인에 없는 게시글만 한 번에 조회)
+    @Query("select new december.spring.studywithme.dto.LikerDTO(postLike.id.postId, postLike.id.userId) " +
+            "from PostLike postLike where postLike.id.postId in :postIds and postLike.isLike = true")
+    List<LikerDTO> findLikersByPostIdIn(@Param("postIds") Collection<Long> postIds);
+}
@@ -1,28 +1,141 @@
 package december.spring.studywithme.repository;
 
-import org.springframework.data.domain.Page;
+import december.spring.studywithme.dto.PostPreviewResponseDTO;
+import december.spring.studywithme.dto.PostResponseDTO;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 
 import december.spring.studywithme.entity.Post;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
-    Page<Post> findAll(Pageable pageable);
+    // 엔티티 대신 PostResponseDTO 에 필요한 컬럼만 작성자와 조인하여 조회
+    // (게시글 수는 PostCountService 로 구하므로 목록 조회는 COUNT 쿼리 없이 Slice 로 조회)
+    String POST_RESPONSE_SELECT = "select new december.spring.studywithme.dto.PostResponseDTO(" +
+            "post.id, writer.userId, post.title, body.contents, post.likes, post.createdAt, post.modifiedAt) " +
+            "from Post post join post.user writer join post.body body ";
 
-    @Query("select post from Post post " +
+    // 목록 조회는 본문/댓글 테이블을 조인하지 않고 게시글 행의 앞부분, 길이, 댓글 수만 조회
+    String POST_PREVIEW_SELECT = "select new december.spring.studywithme.dto.PostPreviewResponseDTO(" +
+            "post.id, writer.userId, post.title, post.preview, post.contentsLength, " +
+            "post.likes, post.commentCount, post.createdAt, post.modifiedAt) " +
+            "from Post post join post.user writer ";
+
+    @Query(POST_RESPONSE_SELECT + "where post.id = :id")
+    Optional<PostResponseDTO> findPostResponseById(@Param("id") Long id);
+
+    @Query(POST_PREVIEW_SELECT + "where post.id in :ids")
+    List<PostPreviewResponseDTO> findPostPreviewsByIdIn(@Param("ids") List<Long> ids);
+
+    // 한 번의 쿼리로 조회한 뒤 전달받은 ID 순서대로 정렬 (삭제된 게시글은 제외)
+    default List<PostPreviewResponseDTO> findPostPreviewsInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, PostPreviewResponseDTO> postMap = findPostPreviewsByIdIn(ids).stream()
+                .collect(Collectors.toMap(PostPreviewResponseDTO::getId, Function.identity()));
+        return ids.stream().map(postMap::get).filter(Objects::nonNull).toList();
+    }
+
+    // 검색 색인 생성용 (id 순 keyset 으로 나누어 조회)
+    @Query(POST_RESPONSE_SELECT +
+            "where post.modifiedAt >= :modifiedAt and post.id > :lastId " +
+            "order by post.id")
+    List<PostResponseDTO> findPostsModifiedSince(@Param("modifiedAt") LocalDateTime modifiedAt, @Param("lastId") Long lastId, Pageable pageable);
+
+    // 전체 내보내기용 (fetch size 단위로 나누어 읽는 스트림, 트랜잭션 안에서 소비하고 닫아야 한다)
+    @Query(POST_RESPONSE_SELECT + "order by post.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<PostResponseDTO> streamAllPostResponses();
+
+    @Query(POST_PREVIEW_SELECT)
+    Slice<PostPreviewResponseDTO> findPostSlice(Pageable pageable);
+
+    @Query(POST_PREVIEW_SELECT +
             "where post.createdAt >= :startDate and post.createdAt < :finishDate")
-    Page<Post> findPostPageByPeriod(@Param("startDate") LocalDateTime startDate, @Param("finishDate") LocalDateTime finishDate, Pageable pageable);
+    Slice<PostPreviewResponseDTO> findPostSliceByPeriod(@Param("startDate") LocalDateTime startDate, @Param("finishDate") LocalDateTime finishDate, Pageable pageable);
 
-    @Query("select post from Post post " +
+    @Query(POST_PREVIEW_SELECT +
             "where post.createdAt >= :startDate")
-    Page<Post> findPostPageByStartDate(@Param("startDate") LocalDateTime startDate, Pageable pageable);
+    Slice<PostPreviewResponseDTO> findPostSliceByStartDate(@Param("startDate") LocalDateTime startDate, Pageable pageable);
 
-    @Query("select post from Post post " +
+    @Query(POST_PREVIEW_SELECT +
             "where post.createdAt < :finishDate")
-    Page<Post> findPostPageByFinishDate(@Param("finishDate")LocalDateTime finishDate, Pageable pageable);
+    Slice<PostPreviewResponseDTO> findPostSliceByFinishDate(@Param("finishDate")LocalDateTime finishDate, Pageable pageable);
+
+    @Query(POST_PREVIEW_SELECT +
+            "where post.createdAt >= :startDate and post.createdAt < :finishDate " +
+            "and (post.createdAt < :cursorCreatedAt or (post.createdAt = :cursorCreatedAt and post.id < :cursorId)) " +
+            "order by post.createdAt desc, post.id desc")
+    List<PostPreviewResponseDTO> findPostsByCreatedAtCursor(@Param("startDate") LocalDateTime startDate, @Param("finishDate") LocalDateTime finishDate,
+                                                            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt, @Param("cursorId") Long cursorId, Pageable pageable);
+
+    @Query(POST_PREVIEW_SELECT +
+            "where post.createdAt >= :startDate and post.createdAt < :finishDate " +
+            "and (post.likes < :cursorLikes or (post.likes = :cursorLikes and post.id < :cursorId)) " +
+            "order by post.likes desc, post.id desc")
+    List<PostPreviewResponseDTO> findPostsByLikesCursor(@Param("startDate") LocalDateTime startDate, @Param("finishDate") LocalDateTime finishDate,
+                                                        @Param("cursorLikes") Long cursorLikes, @Param("cursorId") Long cursorId, Pageable pageable);
+
+    // 댓글 수는 게시글 엔티티를 읽지 않고 DB 에서 원자적으로 증감 (동시에 등록/삭제되어도 값이 유실되지 않는다)
+    @Modifying
+    @Query("update Post post set post.commentCount = post.commentCount + 1 where post.id = :id")
+    void increaseCommentCount(@Param("id") Long id);
+
+    @Modifying
+    @Query("update Post post set post.commentCount = " +
+            "case when post.commentCount > :count then post.commentCount - :count else 0 end " +
+            "where post.id = :id")
+    void decreaseCommentCount(@Param("id") Long id, @Param("count") long count);
+
+    // 좋아요 수도 토글 결과에 따라 DB 에서 원자적으로 증감 (좋아요 전체를 세지 않는다)
+    @Modifying
+    @Query("update Post post set post.likes = post.likes + 1 where post.id = :id")
+    void increaseLikes(@Param("id") Long id);
+
+    @Modifying
+    @Query("update Post post set post.likes = " +
+            "case when post.likes > 0 then post.likes - 1 else 0 end " +
+            "where post.id = :id")
+    void decreaseLikes(@Param("id") Long id);
+
+    @Query("select post.likes from Post post where post.id = :id")
+    Long findLikesById(@Param("id") Long id);
+
+    @Query("select coalesce(max(post.id), 0) from Post post")
+    Long findMaxId();
+
+    // 댓글 수 보정 (id 구간 단위로 실제 댓글 수와 다른 게시글만 갱신, 구간마다 별도 트랜잭션)
+    @Transactional
+    @Modifying
+    @Query("update Post post set post.commentCount = " +
+            "(select count(comment) from Comment comment where comment.post.id = post.id) " +
+            "where post.id > :startId and post.id <= :endId and post.commentCount <> " +
+            "(select count(comment) from Comment comment where comment.post.id = post.id)")
+    int repairCommentCounts(@Param("startId") Long startId, @Param("endId") Long endId);
+
+    // 좋아요 수 보정 (id 구간 단위로 실제 좋아요 수와 다른 게시글만 갱신, 구간마다 별도 트랜잭션)
+    @Transactional
+    @Modifying
+    @Query("update Post post set post.likes = " +
+            "(select count(postLike) from PostLike postLike where postLike.id.postId = post.id and postLike.isLike = true) " +
+            "where post.id > :startId and post.id <= :endId and post.likes <> " +
+            "(select count(postLike) from PostLike postLike where postLike.id.postId = post.id and postLike.isLike = true)")
+    int repairLikes(@Param("startId") Long startId, @Param("endId") Long endId);
 }
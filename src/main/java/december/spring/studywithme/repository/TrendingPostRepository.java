@@ -0,0 +1,67 @@
+package december.spring.studywithme.repository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class TrendingPostRepository {
+	private final StringRedisTemplate redisTemplate;
+	static final String TRENDING_KEY = "post:trending";
+	static final String DECAY_LOCK_KEY = "post:trending:decay-lock";
+	static final double MIN_SCORE = 0.01;
+
+	/**
+	 * 게시글 점수 증감
+	 * @param postId 게시글 ID
+	 * @param delta 증감할 점수
+	 */
+	public void increaseScore(Long postId, double delta) {
+		redisTemplate.opsForZSet().incrementScore(TRENDING_KEY, String.valueOf(postId), delta);
+	}
+
+	/**
+	 * 게시글 순위에서 제거
+	 * @param postId 게시글 ID
+	 */
+	public void removePost(Long postId) {
+		redisTemplate.opsForZSet().remove(TRENDING_KEY, String.valueOf(postId));
+	}
+
+	/**
+	 * 점수 상위 게시글 ID 조회
+	 * @param size 조회할 게시글 수
+	 * @return 점수 내림차순 게시글 ID 목록
+	 */
+	public List<Long> findTopPostIds(int size) {
+		Set<String> postIds = redisTemplate.opsForZSet().reverseRange(TRENDING_KEY, 0, size - 1);
+		return postIds == null ? List.of() : postIds.stream().map(Long::valueOf).toList();
+	}
+
+	/**
+	 * 전체 점수 감쇠
+	 * 자기 자신과의 ZUNIONSTORE 에 가중치를 주어 한 번의 명령으로 모든 점수를 곱하고, 기준 이하의 게시글은 제거한다.
+	 * @param factor 점수에 곱할 감쇠 비율
+	 */
+	public void decay(double factor) {
+		redisTemplate.opsForZSet().unionAndStore(TRENDING_KEY, List.of(), TRENDING_KEY, Aggregate.SUM, Weights.of(factor));
+		redisTemplate.opsForZSet().removeRangeByScore(TRENDING_KEY, Double.NEGATIVE_INFINITY, MIN_SCORE);
+	}
+
+	/**
+	 * 감쇠 잠금 획득 (여러 서버 중 한 서버만 감쇠를 수행)
+	 * @param ttl 잠금 유지 시간
+	 * @return 잠금 획득 여부
+	 */
+	public boolean acquireDecayLock(Duration ttl) {
+		return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(DECAY_LOCK_KEY, "1", ttl));
+	}
+}
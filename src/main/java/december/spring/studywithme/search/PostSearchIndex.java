@@ -0,0 +1,269 @@
+package december.spring.studywithme.search;
+
+import december.spring.studywithme.config.ReplicationContext;
+import december.spring.studywithme.dto.PostResponseDTO;
+import december.spring.studywithme.event.PostContentChangedEvent;
+import december.spring.studywithme.repository.PostRepository;
+import december.spring.studywithme.service.PostCountService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.cjk.CJKAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.QueryBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 게시글 제목 / 내용 전문 검색 색인 (Lucene)
+ * 한글은 CJKAnalyzer 의 2-gram 으로 분리해 부분 검색이 가능하고, 점수는 Lucene 기본 유사도인 BM25 로 계산한다.
+ * 색인은 로컬 디렉토리에 저장되어 재시작 시 마지막 커밋 이후 수정된 게시글만 다시 색인한다.
+ * 색인 변경은 단일 스레드에서 처리하며, 조회는 SearcherManager 가 제공하는 최신 IndexSearcher 로 잠금 없이 수행한다.
+ */
+@Slf4j
+@Component
+public class PostSearchIndex {
+	static final String ID = "id";
+	static final String TITLE = "title";
+	static final String CONTENTS = "contents";
+	private static final String LAST_MODIFIED_AT = "lastModifiedAt";
+	private static final float TITLE_BOOST = 2.0f;
+	private static final int BATCH_SIZE = 500;
+
+	private final PostRepository postRepository;
+	private final PostCountService postCountService;
+	private final Analyzer analyzer = new CJKAnalyzer();
+	private final Directory directory;
+	private final IndexWriter indexWriter;
+	private final SearcherManager searcherManager;
+
+	// 색인된 게시글 중 가장 최근 수정 시각 (커밋 시 함께 저장되어 재시작 시 따라잡기 기준이 된다)
+	private final AtomicReference<LocalDateTime> lastModifiedAt = new AtomicReference<>();
+	private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "post-search-index");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	public PostSearchIndex(PostRepository postRepository, PostCountService postCountService,
+						   @Value("${post.search.index-path:./data/post-index}") Path indexPath) {
+		this.postRepository = postRepository;
+		this.postCountService = postCountService;
+		try {
+			this.directory = FSDirectory.open(indexPath);
+			this.indexWriter = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+				.setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+			this.searcherManager = new SearcherManager(indexWriter, null);
+		} catch (IOException e) {
+			throw new UncheckedIOException("게시글 검색 색인을 열 수 없습니다.", e);
+		}
+
+		String committed = indexWriter.getLiveCommitData() == null ? null : toMap(indexWriter.getLiveCommitData()).get(LAST_MODIFIED_AT);
+		if (committed != null) {
+			lastModifiedAt.set(LocalDateTime.parse(committed));
+		}
+	}
+
+	/**
+	 * 게시글 검색
+	 * @param keyword 검색어
+	 * @param pageable 페이지 정보
+	 * @return 점수 순 게시글 ID 페이지
+	 */
+	public Page<Long> search(String keyword, Pageable pageable) {
+		Query query = buildQuery(keyword);
+		if (query == null) {
+			return Page.empty(pageable);
+		}
+
+		try {
+			IndexSearcher searcher = searcherManager.acquire();
+			try {
+				TopDocs topDocs = searcher.search(query, (int) pageable.getOffset() + pageable.getPageSize());
+				StoredFields storedFields = searcher.storedFields();
+
+				List<Long> postIds = new ArrayList<>();
+				for (int i = (int) pageable.getOffset(); i < topDocs.scoreDocs.length; i++) {
+					ScoreDoc scoreDoc = topDocs.scoreDocs[i];
+					postIds.add(Long.valueOf(storedFields.document(scoreDoc.doc).get(ID)));
+				}
+				return new PageImpl<>(postIds, pageable, searcher.count(query));
+			} finally {
+				searcherManager.release(searcher);
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void handleApplicationReady() {
+		executor.execute(() -> ReplicationContext.runOnPrimary(this::catchUp));
+	}
+
+	/**
+	 * 게시글 생성 / 수정 / 삭제 트랜잭션이 커밋된 후 해당 게시글 재색인
+	 * (좋아요 / 댓글 수 변경은 색인 내용과 관계없으므로 본문을 다시 읽지 않도록 받지 않는다)
+	 * @param event 게시글 내용 변경 이벤트
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void handlePostContentChanged(PostContentChangedEvent event) {
+		// 복제 지연으로 변경 전 데이터를 색인하지 않도록 primary 에서 조회
+		executor.execute(() -> ReplicationContext.runOnPrimary(() -> reindex(event.getPostId())));
+	}
+
+	/**
+	 * 변경 사항을 주기적으로 디스크에 커밋
+	 * (변경마다 커밋하면 fsync 비용이 크므로, 조회에는 커밋 없이 maybeRefresh 로 반영한다)
+	 */
+	@Scheduled(fixedDelayString = "${post.search.commit-interval:PT30S}")
+	public void commit() {
+		try {
+			if (indexWriter.hasUncommittedChanges()) {
+				LocalDateTime modifiedAt = lastModifiedAt.get();
+				if (modifiedAt != null) {
+					indexWriter.setLiveCommitData(Map.of(LAST_MODIFIED_AT, modifiedAt.toString()).entrySet());
+				}
+				indexWriter.commit();
+			}
+		} catch (IOException e) {
+			log.warn("[PostSearchIndex] 색인 커밋 실패 : {}", e.getMessage());
+		}
+	}
+
+	@PreDestroy
+	public void close() throws IOException, InterruptedException {
+		executor.shutdown();
+		executor.awaitTermination(10, TimeUnit.SECONDS);
+		commit();
+		searcherManager.close();
+		indexWriter.close();
+		directory.close();
+	}
+
+	/**
+	 * 시작 시 색인 따라잡기
+	 * 색인 문서 수가 게시글 수와 다르면 (중단된 동안 삭제가 있었거나 색인이 없는 경우) 전체를 다시 색인하고,
+	 * 같으면 마지막 커밋 이후 수정된 게시글만 다시 색인한다.
+	 */
+	void catchUp() {
+		try {
+			LocalDateTime since = lastModifiedAt.get();
+			if (since == null || indexWriter.getDocStats().numDocs != postCountService.countPosts(null, null)) {
+				indexWriter.deleteAll();
+				since = LocalDateTime.of(1970, 1, 1, 0, 0);
+			}
+
+			Long lastId = 0L;
+			List<PostResponseDTO> postList;
+			do {
+				postList = postRepository.findPostsModifiedSince(since, lastId, PageRequest.ofSize(BATCH_SIZE));
+				for (PostResponseDTO post : postList) {
+					index(post);
+				}
+				if (!postList.isEmpty()) {
+					lastId = postList.get(postList.size() - 1).getId();
+				}
+			} while (postList.size() == BATCH_SIZE);
+
+			searcherManager.maybeRefresh();
+			commit();
+		} catch (IOException | RuntimeException e) {
+			log.warn("[PostSearchIndex] 색인 따라잡기 실패 : {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * 게시글 재색인 (삭제된 게시글은 색인에서 제거)
+	 * @param postId 게시글 ID
+	 */
+	void reindex(Long postId) {
+		try {
+			PostResponseDTO post = postRepository.findPostResponseById(postId).orElse(null);
+			if (post == null) {
+				indexWriter.deleteDocuments(new Term(ID, String.valueOf(postId)));
+			} else {
+				index(post);
+			}
+			searcherManager.maybeRefresh();
+		} catch (IOException | RuntimeException e) {
+			log.warn("[PostSearchIndex] 게시글 재색인 실패 : {}", e.getMessage());
+		}
+	}
+
+	private void index(PostResponseDTO post) throws IOException {
+		Document document = new Document();
+		document.add(new StringField(ID, String.valueOf(post.getId()), Field.Store.YES));
+		document.add(new TextField(TITLE, post.getTitle(), Field.Store.NO));
+		document.add(new TextField(CONTENTS, post.getContents(), Field.Store.NO));
+		indexWriter.updateDocument(new Term(ID, String.valueOf(post.getId())), document);
+
+		if (post.getModifiedAt() != null) {
+			lastModifiedAt.accumulateAndGet(post.getModifiedAt(),
+				(current, modifiedAt) -> current == null || modifiedAt.isAfter(current) ? modifiedAt : current);
+		}
+	}
+
+	private Query buildQuery(String keyword) {
+		QueryBuilder queryBuilder = new QueryBuilder(analyzer);
+		Query titleQuery = queryBuilder.createBooleanQuery(TITLE, keyword);
+		Query contentsQuery = queryBuilder.createBooleanQuery(CONTENTS, keyword);
+		if (titleQuery == null && contentsQuery == null) {
+			return null;
+		}
+
+		BooleanQuery.Builder builder = new BooleanQuery.Builder();
+		if (titleQuery != null) {
+			builder.add(new BoostQuery(titleQuery, TITLE_BOOST), BooleanClause.Occur.SHOULD);
+		}
+		if (contentsQuery != null) {
+			builder.add(contentsQuery, BooleanClause.Occur.SHOULD);
+		}
+		return builder.build();
+	}
+
+	private static Map<String, String> toMap(Iterable<Map.Entry<String, String>> commitData) {
+		Map<String, String> map = new HashMap<>();
+		commitData.forEach(entry -> map.put(entry.getKey(), entry.getValue()));
+		return map;
+	}
+}
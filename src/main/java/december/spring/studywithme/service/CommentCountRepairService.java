@@ -0,0 +1,102 @@
+package december.spring.studywithme.service;
+
+import december.spring.studywithme.event.PostCountsRepairedEvent;
+import december.spring.studywithme.repository.JobLockRepository;
+import december.spring.studywithme.repository.PostRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+
+/**
+ * 게시글 댓글 수 보정
+ * 댓글 등록 / 삭제 시 증감하는 post.comment_count 가 실제 댓글 수와 어긋난 경우를 주기적으로 바로잡는다.
+ * 전체 게시글을 한 번에 갱신하지 않고 id 구간 단위로 나누어 구간마다 짧은 트랜잭션으로 처리한다.
+ * 여러 서버에서 실행되어도 잠금을 얻은 한 서버만 보정하고, 보정된 게시글이 있으면 게시글 캐시를 다시 읽도록 알린다.
+ */
+@Slf4j
+@Service
+public class CommentCountRepairService {
+    static final String REPAIR_JOB = "comment-count-repair";
+    static final String INITIALIZE_JOB = "comment-count-initialize";
+    private static final Duration REPAIR_LOCK_TTL = Duration.ofMinutes(30);
+
+    private final PostRepository postRepository;
+    private final JobLockRepository jobLockRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+
+    public CommentCountRepairService(PostRepository postRepository, JobLockRepository jobLockRepository,
+                                     ApplicationEventPublisher eventPublisher,
+                                     @Value("${post.comment-count.repair-batch-size:1000}") int batchSize) {
+        this.postRepository = postRepository;
+        this.jobLockRepository = jobLockRepository;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 1. 댓글 수 보정
+     * @return 보정된 게시글 수
+     */
+    public int repairCommentCounts() {
+        long maxId = postRepository.findMaxId();
+        int repaired = 0;
+
+        for (long startId = 0; startId < maxId; startId += batchSize) {
+            repaired += postRepository.repairCommentCounts(startId, startId + batchSize);
+        }
+
+        if (repaired > 0) {
+            log.info("[CommentCountRepairService] 댓글 수 보정 : {}건", repaired);
+            eventPublisher.publishEvent(new PostCountsRepairedEvent());
+        }
+        return repaired;
+    }
+
+    /**
+     * 2. 댓글 수 초기화
+     * comment_count 컬럼이 추가된 직후에는 기존 게시글이 모두 0 이므로, 정해진 시각까지 기다리지 않고 한 번 바로잡는다.
+     * 완료 표시가 있으면 실행하지 않으며, 동시에 시작한 서버 중 잠금을 얻은 한 서버만 실행한다.
+     */
+    public void initializeCommentCounts() {
+        try {
+            if (jobLockRepository.isDone(INITIALIZE_JOB) || !jobLockRepository.acquire(REPAIR_JOB, REPAIR_LOCK_TTL)) {
+                return;
+            }
+            repairCommentCounts();
+            jobLockRepository.markDone(INITIALIZE_JOB);
+        } catch (RuntimeException e) {
+            log.warn("[CommentCountRepairService] 댓글 수 초기화 실패 : {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 시작 후 별도 스레드에서 댓글 수 초기화 (전체 게시글을 읽으므로 시작을 지연시키지 않는다)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void handleApplicationReady() {
+        Thread thread = new Thread(this::initializeCommentCounts, "comment-count-initialize");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * 정해진 시각에 댓글 수 보정 실행
+     */
+    @Scheduled(cron = "${post.comment-count.repair-cron:0 30 4 * * *}")
+    public void scheduledRepair() {
+        try {
+            if (jobLockRepository.acquire(REPAIR_JOB, REPAIR_LOCK_TTL)) {
+                repairCommentCounts();
+            }
+        } catch (RuntimeException e) {
+            log.warn("[CommentCountRepairService] 댓글 수 보정 실패 : {}", e.getMessage());
+        }
+    }
+}
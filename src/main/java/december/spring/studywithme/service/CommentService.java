@@ -1,24 +1,42 @@
 package december.spring.studywithme.service;
 
+import december.spring.studywithme.cache.PostLikerIndex;
+import december.spring.studywithme.dto.CommentPageResponseDTO;
 import december.spring.studywithme.dto.CommentRequestDTO;
 import december.spring.studywithme.dto.CommentResponseDTO;
 import december.spring.studywithme.entity.*;
+import december.spring.studywithme.event.PostChangedEvent;
+import december.spring.studywithme.event.PostLiveEvent;
 import december.spring.studywithme.exception.CommentException;
 import december.spring.studywithme.exception.NoContentException;
 import december.spring.studywithme.repository.CommentRepository;
+import december.spring.studywithme.repository.PostRepository;
 import december.spring.studywithme.security.UserDetailsImpl;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class CommentService {
+    private static final int PAGE_SIZE = 20;
+    // 전체 댓글 조회에서 최상위 댓글마다 함께 보여줄 답글 수
+    private static final int REPLY_PREVIEW_SIZE = 3;
+
     private final CommentRepository commentRepository;
     private final PostService postService;
+    private final PostRepository postRepository;
+    private final PostLikerIndex postLikerIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 1. 댓글 등록
@@ -37,23 +55,112 @@ public class CommentService {
                 .build();
 
         commentRepository.save(comment);
-        return new CommentResponseDTO(comment);
+        postRepository.increaseCommentCount(postId);
+        eventPublisher.publishEvent(new PostChangedEvent(postId));
+
+        CommentResponseDTO responseDTO = new CommentResponseDTO(comment);
+        eventPublisher.publishEvent(PostLiveEvent.commentCreated(postId, responseDTO));
+        return responseDTO;
     }
 
     /**
-     * 2. 전체 댓글 조회
+     * 1-1. 답글 등록
+     * @param userDetails 로그인한 사용자의 세부 정보
      * @param postId 게시물의 ID
-     * @return List<CommentResponseDTO> 형태의 댓글 목록
+     * @param commentId 답글을 달 댓글의 ID
+     * @param requestDto 댓글 생성 요청 데이터
+     * @return CommentResponseDTO 형태의 답글 정보
      */
-    public List<CommentResponseDTO> getAllComments(Long postId) {
+    @Transactional
+    public CommentResponseDTO createReply(UserDetailsImpl userDetails, Long postId, Long commentId, CommentRequestDTO requestDto) {
         Post post = postService.getValidatePost(postId);
-        List<Comment> commentList = post.getCommentList();
+        Comment parent = commentRepository.findForUpdateByPostIdAndId(postId, commentId).orElseThrow(() ->
+                new CommentException("게시글에 해당 댓글이 존재하지 않습니다."));
+
+        if (!parent.canReply()) {
+            throw new CommentException("답글은 " + Comment.MAX_DEPTH + "단계까지만 작성할 수 있습니다.");
+        }
+        if (!parent.hasReplySlot()) {
+            throw new CommentException("한 댓글에는 답글을 " + Comment.MAX_REPLIES + "개까지만 작성할 수 있습니다.");
+        }
+
+        Comment reply = Comment.builder()
+                .post(post)
+                .user(userDetails.getUser())
+                .contents(requestDto.getContents())
+                .parent(parent)
+                .build();
+
+        commentRepository.save(reply);
+        postRepository.increaseCommentCount(postId);
+        eventPublisher.publishEvent(new PostChangedEvent(postId));
 
-        if (commentList.isEmpty()) {
+        CommentResponseDTO responseDTO = new CommentResponseDTO(reply);
+        eventPublisher.publishEvent(PostLiveEvent.commentCreated(postId, responseDTO));
+        return responseDTO;
+    }
+
+    /**
+     * 2. 전체 댓글 조회
+     * 게시글의 댓글 목록을 불러오지 않고 최상위 댓글과 각 댓글의 앞쪽 답글을 스레드 순서로 한 페이지씩 조회한다.
+     * @param postId 게시물의 ID
+     * @param cursor 이전 페이지에서 전달받은 커서 (첫 페이지는 null)
+     * @return CommentPageResponseDTO 댓글 커서 페이지 조회 결과
+     */
+    public CommentPageResponseDTO getAllComments(Long postId, String cursor) {
+        postService.getValidatePost(postId);
+
+        List<CommentResponseDTO> commentList = commentRepository.findThreadsByCursor(
+                postId, cursor != null ? cursor : "", REPLY_PREVIEW_SIZE, PageRequest.ofSize(PAGE_SIZE + 1));
+
+        if (commentList.isEmpty() && cursor == null) {
             throw new NoContentException("가장 먼저 댓글을 작성해보세요!");
         }
 
-        return commentList.stream().map(CommentResponseDTO::new).toList();
+        return toCommentPage(commentList);
+    }
+
+    /**
+     * 2-1. 전체 댓글 ETag 조회
+     * 댓글 엔티티를 조회하지 않고 댓글 수와 가장 최근 수정 시각으로 변경 여부를 판단한다.
+     * @param postId 게시물의 ID
+     * @return 전체 댓글 ETag
+     */
+    public String getAllCommentsETag(Long postId) {
+        return commentRepository.findCommentVersionByPostId(postId).toETag(postId);
+    }
+
+    /**
+     * 2-2. 답글 스레드 조회
+     * 댓글 아래의 모든 답글을 단계와 관계없이 스레드 순서로 한 페이지씩 조회한다.
+     * @param postId 게시물의 ID
+     * @param commentId 댓글의 ID
+     * @param cursor 이전 페이지에서 전달받은 커서 (첫 페이지는 null)
+     * @return CommentPageResponseDTO 답글 커서 페이지 조회 결과
+     */
+    public CommentPageResponseDTO getReplies(Long postId, Long commentId, String cursor) {
+        postService.getValidatePost(postId);
+        String path = commentRepository.findPathByPostIdAndId(postId, commentId).orElseThrow(() ->
+                new CommentException("게시글에 해당 댓글이 존재하지 않습니다."));
+
+        List<CommentResponseDTO> replyList = commentRepository.findSubtreeByCursor(
+                postId, path, cursor != null ? cursor : path, PageRequest.ofSize(PAGE_SIZE + 1));
+
+        return toCommentPage(replyList);
+    }
+
+    /**
+     * 2-3. 좋아요를 누른 댓글 ID 조회
+     * @param userDetails 로그인한 사용자의 세부 정보 (비로그인 시 null)
+     * @param commentList 확인할 댓글 목록
+     * @return 좋아요를 누른 댓글 ID (비로그인 시 빈 값)
+     */
+    public Set<Long> findLikedCommentIds(UserDetailsImpl userDetails, List<CommentResponseDTO> commentList) {
+        if (userDetails == null) {
+            return Set.of();
+        }
+        return postLikerIndex.findLikedCommentIds(userDetails.getUser().getId(),
+                commentList.stream().map(CommentResponseDTO::getId).toList());
     }
 
     /**
@@ -70,6 +177,17 @@ public class CommentService {
         return new CommentResponseDTO(comment);
     }
 
+    /**
+     * 3-1. 단일 댓글 ETag 조회
+     * @param postId 게시물의 ID
+     * @param commentId 댓글의 ID
+     * @return 단일 댓글 ETag (댓글이 없으면 빈 값)
+     */
+    public Optional<String> getCommentETag(Long postId, Long commentId) {
+        return commentRepository.findModifiedAtByPostIdAndId(postId, commentId)
+                .map(modifiedAt -> "comment-" + commentId + "-" + modifiedAt);
+    }
+
     /**
      * 4. 댓글 수정
      * @param userDetails 로그인한 사용자의 세부 정보
@@ -102,9 +220,40 @@ public class CommentService {
         Comment comment = getValidateComment(post.getId(), commentId);
         checkCommentWriter(comment, userDetails);
 
-        commentRepository.delete(comment);
+        // 답글이 달린 적 있는 댓글은 하위 스레드를 함께 삭제
+        if (comment.hasReplies()) {
+            commentRepository.deleteLikesInSubtree(postId, comment.getPath());
+            int deleted = commentRepository.deleteSubtree(postId, comment.getPath());
+            postRepository.decreaseCommentCount(postId, deleted);
+        } else {
+            commentRepository.delete(comment);
+            postRepository.decreaseCommentCount(postId, 1);
+        }
+        eventPublisher.publishEvent(new PostChangedEvent(postId));
+    }
+
+
+    /**
+     * 경로 도입 전에 등록된 댓글을 최상위 댓글로 채움 (애플리케이션 시작 시 한 번 실행)
+     */
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void fillMissingCommentPaths() {
+        commentRepository.fillMissingPaths();
     }
 
+    /**
+     * 커서 페이지 변환 (한 건 더 조회한 결과로 다음 페이지 여부 판단)
+     * @param commentList PAGE_SIZE + 1 건까지 조회된 댓글 목록
+     * @return CommentPageResponseDTO 댓글 커서 페이지 조회 결과
+     */
+    private CommentPageResponseDTO toCommentPage(List<CommentResponseDTO> commentList) {
+        boolean hasNext = commentList.size() > PAGE_SIZE;
+        List<CommentResponseDTO> content = hasNext ? commentList.subList(0, PAGE_SIZE) : commentList;
+        String nextCursor = hasNext ? content.get(content.size() - 1).getPath() : null;
+
+        return new CommentPageResponseDTO(content, nextCursor);
+    }
 
     /**
      * 댓글 존재 여부 확인
@@ -117,6 +266,17 @@ public class CommentService {
                 new CommentException("게시글에 해당 댓글이 존재하지 않습니다."));
     }
 
+    /**
+     * 댓글 작성자 ID 조회 (댓글 / 작성자 엔티티를 불러오지 않고 존재 여부와 작성자 ID 만 확인)
+     * @param postId 게시물의 ID
+     * @param commentId 댓글의 ID
+     * @return 댓글 작성자의 ID
+     */
+    public Long getValidateCommentWriterId(Long postId, Long commentId) {
+        return commentRepository.findUserIdByPostIdAndId(postId, commentId).orElseThrow(() ->
+                new CommentException("게시글에 해당 댓글이 존재하지 않습니다."));
+    }
+
     /**
      * 댓글 작성자 확인
      * @param comment 댓글 정보
@@ -0,0 +1,227 @@
+package december.spring.studywithme.service;
+
+import december.spring.studywithme.event.CommentLikedEvent;
+import december.spring.studywithme.event.PostChangedEvent;
+import december.spring.studywithme.event.PostLikedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 좋아요 수 write-behind 집계 (post.like-count.write-behind.enabled=true 인 경우에만 사용)
+ * 좋아요가 몰리는 게시글은 토글마다 같은 post 행을 갱신하느라 행 잠금을 기다리게 된다.
+ * 사용 시 커밋된 좋아요 증감을 게시글 / 댓글별 LongAdder 에 잠금 없이 누적하고,
+ * flush-interval 마다 누적된 증감을 한 번의 JDBC 배치 update 로 반영한다.
+ * 반영 전까지 post.likes / comment.likes 는 최대 flush-interval 만큼 늦을 수 있으며, 종료 시 남은 증감을 모두 반영한다.
+ * 반영하지 못하고 서버가 비정상 종료되어 잃은 증감은 LikeCountRepairService 가 보정한다.
+ */
+@Slf4j
+@Service
+public class LikeCountAggregator {
+    private static final String POST_UPDATE = "update post set likes = greatest(likes + ?, 0) where id = ?";
+    private static final String COMMENT_UPDATE = "update comment set likes = greatest(likes + ?, 0) where id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+
+    private final Map<Long, LongAdder> postDeltas = new ConcurrentHashMap<>();
+    private final Map<Long, LongAdder> commentDeltas = new ConcurrentHashMap<>();
+    private final Counter flushedPosts;
+    private final Counter flushedComments;
+
+    public LikeCountAggregator(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate, ApplicationEventPublisher eventPublisher,
+                               MeterRegistry meterRegistry, @Value("${post.like-count.write-behind.enabled:false}") boolean enabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+
+        Gauge.builder("post.like-count.pending", postDeltas, LikeCountAggregator::sumPending)
+            .description("반영되지 않은 좋아요 증감 합계 (절댓값)")
+            .tag("type", "post")
+            .register(meterRegistry);
+        Gauge.builder("post.like-count.pending", commentDeltas, LikeCountAggregator::sumPending)
+            .description("반영되지 않은 좋아요 증감 합계 (절댓값)")
+            .tag("type", "comment")
+            .register(meterRegistry);
+        this.flushedPosts = Counter.builder("post.like-count.flushed")
+            .description("좋아요 수를 반영한 행 수")
+            .tag("type", "post")
+            .register(meterRegistry);
+        this.flushedComments = Counter.builder("post.like-count.flushed")
+            .description("좋아요 수를 반영한 행 수")
+            .tag("type", "comment")
+            .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 1. 반영 전 증감을 포함한 게시글 좋아요 수 추정
+     * (이번 토글은 커밋 후 누적되므로 함께 더한다)
+     * @param postId 게시글 ID
+     * @param storedLikes DB 에 저장된 좋아요 수
+     * @param liked 좋아요 등록 여부
+     * @return 추정 좋아요 수
+     */
+    public Long estimatePostLikes(Long postId, Long storedLikes, boolean liked) {
+        return estimate(postDeltas, postId, storedLikes, liked);
+    }
+
+    /**
+     * 2. 반영 전 증감을 포함한 댓글 좋아요 수 추정
+     * @param commentId 댓글 ID
+     * @param storedLikes DB 에 저장된 좋아요 수
+     * @param liked 좋아요 등록 여부
+     * @return 추정 좋아요 수
+     */
+    public Long estimateCommentLikes(Long commentId, Long storedLikes, boolean liked) {
+        return estimate(commentDeltas, commentId, storedLikes, liked);
+    }
+
+    /**
+     * 좋아요 등록 / 취소 트랜잭션이 커밋된 후 게시글 증감 누적 (롤백된 토글은 누적하지 않는다)
+     * @param event 게시글 좋아요 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handlePostLiked(PostLikedEvent event) {
+        if (enabled) {
+            add(postDeltas, event.getPostId(), event.isLiked() ? 1 : -1);
+        }
+    }
+
+    /**
+     * 좋아요 등록 / 취소 트랜잭션이 커밋된 후 댓글 증감 누적
+     * @param event 댓글 좋아요 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleCommentLiked(CommentLikedEvent event) {
+        if (enabled) {
+            add(commentDeltas, event.getCommentId(), event.isLiked() ? 1 : -1);
+        }
+    }
+
+    /**
+     * 3. 누적된 증감 반영
+     * @return 반영된 게시글 / 댓글 수
+     */
+    public synchronized int flush() {
+        List<Long> postIds = flush(postDeltas, POST_UPDATE, flushedPosts);
+        int flushed = postIds.size() + flush(commentDeltas, COMMENT_UPDATE, flushedComments).size();
+
+        // 토글 시점에는 좋아요 수가 바뀌지 않았으므로 반영 후 게시글 캐시를 비운다
+        postIds.forEach(postId -> eventPublisher.publishEvent(new PostChangedEvent(postId)));
+        return flushed;
+    }
+
+    /**
+     * 주기적으로 누적된 증감 반영
+     */
+    @Scheduled(fixedDelayString = "${post.like-count.write-behind.flush-interval:PT1S}")
+    public void scheduledFlush() {
+        if (enabled) {
+            flush();
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        flush();
+    }
+
+    /**
+     * 증감 배치 반영 (실패하면 배치 전체를 롤백하고 증감을 되돌려 다음 주기에 다시 반영)
+     * @param deltas 누적된 증감
+     * @param sql 증감 update 문
+     * @param flushedCounter 반영 행 수 지표
+     * @return 반영된 ID 목록
+     */
+    private List<Long> flush(Map<Long, LongAdder> deltas, String sql, Counter flushedCounter) {
+        List<Object[]> batchArgs = new ArrayList<>();
+        for (Map.Entry<Long, LongAdder> entry : deltas.entrySet()) {
+            long delta = entry.getValue().sumThenReset();
+            if (delta != 0) {
+                batchArgs.add(new Object[]{delta, entry.getKey()});
+            } else {
+                removeIdle(deltas, entry.getKey(), entry.getValue());
+            }
+        }
+        if (batchArgs.isEmpty()) {
+            return List.of();
+        }
+
+        // 여러 서버가 동시에 반영해도 같은 순서로 행을 잠가 교착 상태가 생기지 않게 한다
+        batchArgs.sort(Comparator.comparing(args -> (Long) args[1]));
+        try {
+            // 일부만 반영된 뒤 실패하면 전체 증감을 되돌려 다시 반영하므로, 배치 전체를 한 트랜잭션으로 반영한다
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(sql, batchArgs));
+        } catch (DataAccessException e) {
+            log.warn("[LikeCountAggregator] 좋아요 수 반영 실패 : {}", e.getMessage());
+            batchArgs.forEach(args -> add(deltas, (Long) args[1], (Long) args[0]));
+            return List.of();
+        }
+
+        flushedCounter.increment(batchArgs.size());
+        return batchArgs.stream().map(args -> (Long) args[1]).toList();
+    }
+
+    /**
+     * 이번 주기에 증감이 없던 항목 제거 (제거하는 사이에 누적된 증감은 다시 옮긴다)
+     */
+    private void removeIdle(Map<Long, LongAdder> deltas, Long id, LongAdder adder) {
+        if (deltas.remove(id, adder)) {
+            long late = adder.sumThenReset();
+            if (late != 0) {
+                add(deltas, id, late);
+            }
+        }
+    }
+
+    /**
+     * 증감 누적
+     * 반영 작업이 항목을 제거한 뒤에 더했을 수 있으면 제거된 항목에 남은 증감을 새 항목으로 옮긴다.
+     * 남은 증감은 sumThenReset 으로 가져간 쪽(이 메서드 또는 removeIdle)만 옮기므로 유실되거나 두 번 반영되지 않는다.
+     */
+    private static void add(Map<Long, LongAdder> deltas, Long id, long delta) {
+        LongAdder adder = deltas.computeIfAbsent(id, key -> new LongAdder());
+        adder.add(delta);
+
+        if (deltas.get(id) != adder) {
+            long moved = adder.sumThenReset();
+            if (moved != 0) {
+                add(deltas, id, moved);
+            }
+        }
+    }
+
+    private static Long estimate(Map<Long, LongAdder> deltas, Long id, Long storedLikes, boolean liked) {
+        LongAdder pending = deltas.get(id);
+        long likes = storedLikes + (pending == null ? 0 : pending.sum()) + (liked ? 1 : -1);
+        return Math.max(likes, 0);
+    }
+
+    private static double sumPending(Map<Long, LongAdder> deltas) {
+        return deltas.values().stream().mapToLong(adder -> Math.abs(adder.sum())).sum();
+    }
+}
@@ -0,0 +1,106 @@
+package december.spring.studywithme.service;
+
+import december.spring.studywithme.event.PostCountsRepairedEvent;
+import december.spring.studywithme.repository.CommentRepository;
+import december.spring.studywithme.repository.JobLockRepository;
+import december.spring.studywithme.repository.PostRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+
+/**
+ * 게시글 / 댓글 좋아요 수 보정
+ * 좋아요 등록 / 취소 시 1 씩 증감하는 likes 가 실제 좋아요 수와 어긋난 경우(동시 토글, 직접 수정한 데이터 등)를 주기적으로 바로잡는다.
+ * CommentCountRepairService 와 같이 id 구간 단위로 나누어 구간마다 짧은 트랜잭션으로 처리한다.
+ * write-behind 집계를 사용하는 경우 구간마다 먼저 누적된 증감을 반영한다. 반영하지 않으면 보정 후 같은 증감이 다시 더해진다.
+ * 여러 서버에서 실행되어도 잠금을 얻은 한 서버만 보정한다.
+ */
+@Slf4j
+@Service
+public class LikeCountRepairService {
+    static final String REPAIR_JOB = "like-count-repair";
+    private static final Duration REPAIR_LOCK_TTL = Duration.ofMinutes(30);
+
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final LikeCountAggregator likeCountAggregator;
+    private final JobLockRepository jobLockRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+
+    public LikeCountRepairService(PostRepository postRepository, CommentRepository commentRepository,
+                                  LikeCountAggregator likeCountAggregator, JobLockRepository jobLockRepository,
+                                  ApplicationEventPublisher eventPublisher,
+                                  @Value("${post.like-count.repair-batch-size:1000}") int batchSize) {
+        this.postRepository = postRepository;
+        this.commentRepository = commentRepository;
+        this.likeCountAggregator = likeCountAggregator;
+        this.jobLockRepository = jobLockRepository;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 1. 게시글 좋아요 수 보정
+     * @return 보정된 게시글 수
+     */
+    public int repairPostLikes() {
+        long maxId = postRepository.findMaxId();
+        int repaired = 0;
+
+        for (long startId = 0; startId < maxId; startId += batchSize) {
+            flushPendingLikes();
+            repaired += postRepository.repairLikes(startId, startId + batchSize);
+        }
+
+        if (repaired > 0) {
+            log.info("[LikeCountRepairService] 게시글 좋아요 수 보정 : {}건", repaired);
+            eventPublisher.publishEvent(new PostCountsRepairedEvent());
+        }
+        return repaired;
+    }
+
+    /**
+     * 2. 댓글 좋아요 수 보정
+     * @return 보정된 댓글 수
+     */
+    public int repairCommentLikes() {
+        long maxId = commentRepository.findMaxId();
+        int repaired = 0;
+
+        for (long startId = 0; startId < maxId; startId += batchSize) {
+            flushPendingLikes();
+            repaired += commentRepository.repairLikes(startId, startId + batchSize);
+        }
+
+        if (repaired > 0) {
+            log.info("[LikeCountRepairService] 댓글 좋아요 수 보정 : {}건", repaired);
+        }
+        return repaired;
+    }
+
+    /**
+     * 정해진 시각에 좋아요 수 보정 실행
+     */
+    @Scheduled(cron = "${post.like-count.repair-cron:0 0 5 * * *}")
+    public void scheduledRepair() {
+        try {
+            if (jobLockRepository.acquire(REPAIR_JOB, REPAIR_LOCK_TTL)) {
+                repairPostLikes();
+                repairCommentLikes();
+            }
+        } catch (RuntimeException e) {
+            log.warn("[LikeCountRepairService] 좋아요 수 보정 실패 : {}", e.getMessage());
+        }
+    }
+
+    private void flushPendingLikes() {
+        if (likeCountAggregator.isEnabled()) {
+            likeCountAggregator.flush();
+        }
+    }
+}
@@ -1,21 +1,37 @@
 package december.spring.studywithme.service;
 
+import december.spring.studywithme.dto.PostResponseDTO;
 import december.spring.studywithme.entity.*;
+import december.spring.studywithme.event.CommentLikedEvent;
+import december.spring.studywithme.event.PostChangedEvent;
+import december.spring.studywithme.event.PostLikedEvent;
+import december.spring.studywithme.event.PostLiveEvent;
 import december.spring.studywithme.exception.LikeException;
 import december.spring.studywithme.repository.CommentLikeRepository;
+import december.spring.studywithme.repository.CommentRepository;
 import december.spring.studywithme.repository.PostLikeRepository;
+import december.spring.studywithme.repository.PostRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 
+
 @Service
 @RequiredArgsConstructor
 public class LikeService {
+    // upsert 로 새 행이 추가된 경우의 영향 받은 행 수 (기존 행을 변경한 경우는 2)
+    private static final int INSERTED = 1;
+
     private final PostService postService;
     private final CommentService commentService;
     private final PostLikeRepository postLikeRepository;
     private final CommentLikeRepository commentLikeRepository;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final LikeCountAggregator likeCountAggregator;
+    private final ApplicationEventPublisher eventPublisher;
     
     /**
      * 1. 게시글 좋아요 등록 / 취소
@@ -25,14 +41,24 @@ public class LikeService {
      */
     @Transactional
     public boolean likePost(Long postId, User user) {
-        Post post = postService.getValidatePost(postId);
+        // 게시글 / 작성자 엔티티를 불러오지 않고 캐시된 게시글 정보로 존재 여부와 작성자를 확인
+        PostResponseDTO post = postService.getPost(postId);
         
-        if (post.getUser().getUserId().equals(user.getUserId())) {
+        if (post.getUserId().equals(user.getUserId())) {
             throw new LikeException("본인이 작성한 게시글에는 좋아요를 남길 수 없습니다.");
         }
 
-        boolean result = postLikeUpdate(user, post);
-        updateLikes(post);
+        boolean result = postLikeUpdate(user.getId(), postId);
+        Long likes;
+        if (likeCountAggregator.isEnabled()) {
+            // 좋아요 수는 커밋 후 누적되어 주기적으로 반영되며, 반영 시 게시글 변경 이벤트가 발행된다
+            likes = likeCountAggregator.estimatePostLikes(postId, postRepository.findLikesById(postId), result);
+        } else {
+            likes = updatePostLikes(postId, result);
+            eventPublisher.publishEvent(new PostChangedEvent(postId));
+        }
+        eventPublisher.publishEvent(new PostLikedEvent(postId, user.getId(), result));
+        eventPublisher.publishEvent(PostLiveEvent.postLikesChanged(postId, likes));
         return result;
     }
     
@@ -45,80 +71,75 @@ public class LikeService {
      */
     @Transactional
     public boolean likeComment(Long postId, Long commentId, User user) {
-        Post post = postService.getValidatePost(postId);
-        Comment comment = commentService.getValidateComment(post.getId(), commentId);
+        postService.getValidatePost(postId);
+        Long writerId = commentService.getValidateCommentWriterId(postId, commentId);
         
-        if (comment.getUser().getUserId().equals(user.getUserId())) {
+        if (writerId.equals(user.getId())) {
             throw new LikeException("본인이 작성한 댓글에는 좋아요를 남길 수 없습니다.");
         }
 
-        boolean result = commentLikeUpdate(user, comment);
-        updateLikes(comment);
+        boolean result = commentLikeUpdate(user.getId(), commentId);
+        Long likes = likeCountAggregator.isEnabled()
+                ? likeCountAggregator.estimateCommentLikes(commentId, commentRepository.findLikesById(commentId), result)
+                : updateCommentLikes(commentId, result);
+        eventPublisher.publishEvent(new CommentLikedEvent(postId, commentId, user.getId(), result));
+        eventPublisher.publishEvent(PostLiveEvent.commentLikesChanged(postId, commentId, likes));
         return result;
     }
     
     /**
      * 게시글 좋아요 DB 업데이트
-     * @param user 로그인한 사용자 정보
-     * @param post 게시글
+     * 조회 후 저장하지 않고 기본 키 upsert 한 문장으로 등록 / 토글하여, 동시에 눌러도 중복 행이 생기지 않는다.
+     * 새로 등록된 경우는 upsert 만으로 상태를 알 수 있고, 토글된 경우에만 upsert 가 잠근 행의 상태를 다시 조회한다.
+     * @param userId 로그인한 사용자 ID
+     * @param postId 게시글 ID
      * @return 좋아요 등록 / 취소 여부
      */
-    public boolean postLikeUpdate(User user, Post post){
-        PostLike postLike = postLikeRepository.findByUserAndPost(user, post);
-        
-        if(postLike != null){
-            postLike.update();
-        } else {
-            postLike = PostLike.builder()
-                .user(user)
-                .post(post)
-                .isLike(true)
-                .build();
-            postLikeRepository.save(postLike);
-        }
-        
-        return postLike.isLike();
+    public boolean postLikeUpdate(Long userId, Long postId){
+        int affected = postLikeRepository.toggle(userId, postId);
+        return affected == INSERTED || postLikeRepository.findIsLike(userId, postId);
     }
     
     /**
      * 댓글 좋아요 DB 업데이트
-     * @param user 로그인한 사용자 정보
-     * @param comment 댓글
+     * @param userId 로그인한 사용자 ID
+     * @param commentId 댓글 ID
      * @return 좋아요 등록 / 취소 여부
      */
-    public boolean commentLikeUpdate(User user, Comment comment){
-        CommentLike commentLike = commentLikeRepository.findByUserAndComment(user, comment);
-        
-        //like 객체 업데이트
-        if (commentLike != null) {
-            commentLike.update();
-        } else {
-            commentLike = CommentLike.builder()
-                .user(user)
-                .comment(comment)
-                .isLike(true)
-                .build();
-            commentLikeRepository.save(commentLike);
-        }
-
-        return commentLike.isLike();
+    public boolean commentLikeUpdate(Long userId, Long commentId){
+        int affected = commentLikeRepository.toggle(userId, commentId);
+        return affected == INSERTED || commentLikeRepository.findIsLike(userId, commentId);
     }
     
     /**
      * 게시글 좋아요 수 업데이트
-     * @param post 게시글
+     * 좋아요 전체를 세지 않고 등록 / 취소 결과에 따라 1 씩 원자적으로 증감한다.
+     * (엔티티 값은 바꾸지 않으므로 동시에 토글되어도 서로의 증감을 덮어쓰지 않으며, 어긋난 값은 LikeCountRepairService 가 보정한다)
+     * @param postId 게시글 ID
+     * @param liked 좋아요 등록 여부
+     * @return 변경된 좋아요 수
      */
-    private void updateLikes(Post post) {
-        Long countLikes = postLikeRepository.countByPostAndIsLike(post);
-        post.updatePostLikes(countLikes);
+    private Long updatePostLikes(Long postId, boolean liked) {
+        if (liked) {
+            postRepository.increaseLikes(postId);
+        } else {
+            postRepository.decreaseLikes(postId);
+        }
+        return postRepository.findLikesById(postId);
     }
     
     /**
      * 댓글 좋아요 수 업데이트
-     * @param comment 댓글
+     * @param commentId 댓글 ID
+     * @param liked 좋아요 등록 여부
+     * @return 변경된 좋아요 수
      */
-    private void updateLikes(Comment comment) {
-        Long countLikes = commentLikeRepository.countByCommentAndIsLike(comment);
-        comment.updateCommentLikes(countLikes);
+    private Long updateCommentLikes(Long commentId, boolean liked) {
+        if (liked) {
+            commentRepository.increaseLikes(commentId);
+        } else {
+            commentRepository.decreaseLikes(commentId);
+        }
+        return commentRepository.findLikesById(commentId);
     }
 }
@@ -0,0 +1,72 @@
+package december.spring.studywithme.service;
+
+import december.spring.studywithme.repository.PostDailyCountRepository;
+import december.spring.studywithme.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 수 관리
+ * 페이지 조회마다 COUNT(*) 를 수행하지 않도록 일자별 게시글 수를 게시글 생성 / 삭제와 같은 트랜잭션에서 증감시키고,
+ * 전체 / 기간별 게시글 수는 일자별 값을 합산하여 구한다. (게시글 수가 아닌 일수에 비례)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PostCountService {
+    private static final LocalDate MIN_DATE = LocalDate.of(1000, 1, 1);
+    private static final LocalDate MAX_DATE = LocalDate.of(9999, 12, 31);
+
+    private final PostDailyCountRepository postDailyCountRepository;
+    private final PostRepository postRepository;
+
+    /**
+     * 게시글 수 증가
+     * @param createdAt 게시글 생성 일시
+     */
+    @Transactional
+    public void increase(LocalDateTime createdAt) {
+        postDailyCountRepository.increaseCount(createdAt.toLocalDate());
+    }
+
+    /**
+     * 게시글 수 감소
+     * @param createdAt 게시글 생성 일시
+     */
+    @Transactional
+    public void decrease(LocalDateTime createdAt) {
+        postDailyCountRepository.decreaseCount(createdAt.toLocalDate());
+    }
+
+    /**
+     * 기간 내 게시글 수 조회
+     * 기간 조건은 일 단위(자정 기준)로 전달된다.
+     * @param startDate 기간 시작 일시 (없으면 null)
+     * @param finishDate 기간 마지막 일시 (없으면 null)
+     * @return 게시글 수
+     */
+    public long countPosts(LocalDateTime startDate, LocalDateTime finishDate) {
+        return postDailyCountRepository.sumCountByPeriod(
+            startDate != null ? startDate.toLocalDate() : MIN_DATE,
+            finishDate != null ? finishDate.toLocalDate() : MAX_DATE);
+    }
+
+    /**
+     * 일자별 게시글 수가 비어 있으면 게시글 테이블로부터 다시 계산
+     * (최초 배포 시 웹 서버가 요청을 받기 전에 PostDailyCountInitializer 가 한 번 수행한다)
+     * 동시에 시작한 다른 서버가 먼저 채운 일자는 게시글 테이블의 값으로 덮어쓴다.
+     */
+    @Transactional
+    public void initializeCounts() {
+        if (postDailyCountRepository.count() == 0 && postRepository.count() > 0) {
+            postDailyCountRepository.rebuildCounts();
+            log.info("[PostCountService] 일자별 게시글 수 초기화 완료");
+        }
+    }
+}
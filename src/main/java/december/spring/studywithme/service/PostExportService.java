@@ -0,0 +1,52 @@
+package december.spring.studywithme.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import december.spring.studywithme.dto.PostResponseDTO;
+import december.spring.studywithme.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PostExportService {
+    private static final int FLUSH_INTERVAL = 500;
+    private static final byte LINE_SEPARATOR = '\n';
+
+    private final PostRepository postRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 1. 전체 게시글 내보내기 (NDJSON)
+     * 게시글을 fetch size 단위로 읽으며 한 줄씩 바로 출력한다. 엔티티가 아닌 프로젝션으로 조회하므로
+     * 영속성 컨텍스트에 쌓이는 객체가 없고, 출력 스트림 쓰기가 클라이언트 속도에 맞춰 대기하므로
+     * 게시글 수와 관계없이 메모리 사용량이 일정하다.
+     * @param outputStream 응답 출력 스트림
+     * @return 내보낸 게시글 수
+     */
+    public long exportPosts(OutputStream outputStream) {
+        long count = 0;
+        try (Stream<PostResponseDTO> postStream = postRepository.streamAllPostResponses()) {
+            Iterator<PostResponseDTO> iterator = postStream.iterator();
+            while (iterator.hasNext()) {
+                outputStream.write(objectMapper.writeValueAsBytes(iterator.next()));
+                outputStream.write(LINE_SEPARATOR);
+
+                if (++count % FLUSH_INTERVAL == 0) {
+                    outputStream.flush();
+                }
+            }
+            outputStream.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("게시글 내보내기에 실패했습니다.", e);
+        }
+        return count;
+    }
+}
@@ -0,0 +1,49 @@
+package december.spring.studywithme.service;
+
+import december.spring.studywithme.dto.PostPageResponseDTO;
+import december.spring.studywithme.dto.PostPreviewResponseDTO;
+import december.spring.studywithme.exception.PageException;
+import december.spring.studywithme.repository.PostRepository;
+import december.spring.studywithme.search.PostSearchIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PostSearchService {
+    private static final int PAGE_SIZE = 10;
+
+    private final PostSearchIndex postSearchIndex;
+    private final PostRepository postRepository;
+
+    /**
+     * 1. 게시글 검색
+     * 검색 색인에서 점수 순 게시글 ID 를 구한 뒤, 해당 게시글만 한 번의 쿼리로 조회한다.
+     * @param keyword 검색어
+     * @param page 접근할 페이지
+     * @return PostPageResponseDTO 검색 결과 페이지
+     * @throws PageException 검색어가 비어있거나 페이지가 올바르지 않은 경우
+     */
+    public PostPageResponseDTO searchPosts(String keyword, Integer page) {
+        if (keyword == null || keyword.isBlank()) {
+            throw new PageException("검색어를 입력해주세요.");
+        }
+        if (page < 1) {
+            throw new PageException("페이지가 존재하지 않습니다.");
+        }
+
+        Pageable pageable = PageRequest.of(page - 1, PAGE_SIZE);
+        Page<Long> postIdPage = postSearchIndex.search(keyword.trim(), pageable);
+        List<PostPreviewResponseDTO> postList = postRepository.findPostPreviewsInOrder(postIdPage.getContent());
+
+        return new PostPageResponseDTO(page, new PageImpl<>(postList, pageable, postIdPage.getTotalElements()));
+    }
+}
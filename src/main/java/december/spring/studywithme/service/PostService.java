@@ -1,10 +1,20 @@
 package december.spring.studywithme.service;
 
-
+import december.spring.studywithme.cache.PostCache;
+import december.spring.studywithme.cache.PostFeedCache;
+import december.spring.studywithme.cache.PostLikerIndex;
+import december.spring.studywithme.cache.PostPageCache;
+import december.spring.studywithme.config.ReplicationContext;
+import december.spring.studywithme.dto.PostCursor;
+import december.spring.studywithme.dto.PostCursorResponseDTO;
 import december.spring.studywithme.dto.PostPageResponseDTO;
+import december.spring.studywithme.dto.PostPreviewResponseDTO;
 import december.spring.studywithme.dto.PostRequestDTO;
 import december.spring.studywithme.dto.PostResponseDTO;
 import december.spring.studywithme.entity.Post;
+import december.spring.studywithme.entity.PostSortType;
+import december.spring.studywithme.event.PostContentChangedEvent;
+import december.spring.studywithme.event.PostDeletedEvent;
 import december.spring.studywithme.exception.NoContentException;
 import december.spring.studywithme.exception.PageException;
 import december.spring.studywithme.exception.PostException;
@@ -12,10 +22,11 @@ import december.spring.studywithme.repository.PostRepository;
 import december.spring.studywithme.security.UserDetailsImpl;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cglib.core.Local;
-import org.springframework.data.domain.Page;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,12 +35,24 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class PostService {
+	private static final int CURSOR_PAGE_SIZE = 10;
+	private static final LocalDateTime MIN_DATE = LocalDate.of(1000, 1, 1).atStartOfDay();
+	private static final LocalDateTime MAX_DATE = LocalDate.of(9999, 12, 31).atStartOfDay();
+
 	private final PostRepository postRepository;
+	private final PostCountService postCountService;
+	private final PostCache postCache;
+	private final PostFeedCache postFeedCache;
+	private final PostPageCache postPageCache;
+	private final PostLikerIndex postLikerIndex;
+	private final ApplicationEventPublisher eventPublisher;
 
 	/**
 	 * 1. 게시글 생성
@@ -46,6 +69,8 @@ public class PostService {
 			.build();
 
 		Post savePost = postRepository.save(post);
+		postCountService.increase(savePost.getCreatedAt());
+		eventPublisher.publishEvent(new PostContentChangedEvent(savePost.getId()));
 		return new PostResponseDTO(savePost);
 	}
 
@@ -55,8 +80,7 @@ public class PostService {
 	 * @return PostResponseDTO 게시글 조회 결과
 	 */
 	public PostResponseDTO getPost(Long id) {
-		Post post = getValidatePost(id);
-		return new PostResponseDTO(post);
+		return postCache.get(id, this::loadPost);
 	}
 
 	/**
@@ -69,34 +93,130 @@ public class PostService {
 	 */
 	public PostPageResponseDTO getPostPage(Integer page, String sortBy, String from, String to) {
 		Pageable pageable = createPageable(page, sortBy);
-		Page<Post> postPage;
+		LocalDateTime startDate;
+		LocalDateTime finishDate;
 
 		try {
-			if (from != null && to != null) {
-				LocalDateTime startDate = parseDateString(from, true);
-				LocalDateTime finishDate = parseDateString(to, false);
-
-				if (startDate.isAfter(finishDate) || startDate.isEqual(finishDate)) {
-					throw new IllegalArgumentException("기간 설정이 올바르지 않습니다.");
-				}
-
-				postPage = postRepository.findPostPageByPeriod(startDate, finishDate, pageable);
-
-			} else if (from != null) {
-				LocalDateTime startDate = parseDateString(from, true);
-				postPage = postRepository.findPostPageByStartDate(startDate, pageable);
-			} else if (to != null) {
-				LocalDateTime finishDate = parseDateString(to, false);
-				postPage = postRepository.findPostPageByFinishDate(finishDate, pageable);
-			} else {
-				postPage = postRepository.findAll(pageable);
+			startDate = from != null ? parseDateString(from, true) : null;
+			finishDate = to != null ? parseDateString(to, false) : null;
+		} catch (DateTimeParseException e) {
+			throw new IllegalArgumentException("날짜 형식이 올바르지 않습니다. yyyy-mm-dd 형식으로 입력해주세요!");
+		}
+
+		if (startDate != null && finishDate != null && !startDate.isBefore(finishDate)) {
+			throw new IllegalArgumentException("기간 설정이 올바르지 않습니다.");
+		}
+
+		// 기간 조건이 있는 조회는 Redis 에 캐시된 결과를 먼저 확인
+		// 세대 번호는 DB 조회 전에 한 번만 읽어 조회와 저장에 함께 사용한다 (Redis 장애 시 캐시를 사용하지 않음)
+		boolean isPeriodQuery = startDate != null || finishDate != null;
+		Optional<String> generation = isPeriodQuery ? postPageCache.findGeneration() : Optional.empty();
+		if (generation.isPresent()) {
+			Optional<PostPageResponseDTO> cachedPage = postPageCache.find(generation.get(), startDate, finishDate, sortBy, page);
+			if (cachedPage.isPresent()) {
+				return cachedPage.get();
 			}
+		}
+
+		if (generation.isEmpty()) {
+			return loadPostPage(page, pageable, startDate, finishDate);
+		}
+
+		// 캐시에 저장할 조회는 복제 지연으로 변경 전 페이지를 새 세대에 저장하지 않도록 primary 에서 조회
+		PostPageResponseDTO pageResponseDto = ReplicationContext.callOnPrimary(() ->
+			loadPostPage(page, pageable, startDate, finishDate));
+		postPageCache.save(generation.get(), startDate, finishDate, sortBy, page, pageResponseDto);
+		return pageResponseDto;
+	}
+
+	/**
+	 * 3-1. 전체 게시글 페이지 스냅샷 조회
+	 * 기간 조건이 없는 기본 정렬의 앞쪽 페이지는 미리 직렬화된 스냅샷으로 응답한다.
+	 * @param page 접근할 페이지
+	 * @param sortBy 게시글 정렬 기준
+	 * @return 직렬화된 PostPageResponseDTO 와 ETag (스냅샷에 없으면 빈 값)
+	 */
+	public Optional<PostFeedCache.FeedPage> getPostPageSnapshot(Integer page, String sortBy) {
+		return postFeedCache.find(sortBy, page);
+	}
+
+	/**
+	 * 3-2. 전체 게시글 커서 페이지 조회
+	 * 오프셋 대신 (정렬 기준 값, ID) 를 기준으로 다음 페이지를 조회하며, 전체 개수 조회를 수행하지 않는다.
+	 * @param cursor 이전 페이지에서 전달받은 커서 (첫 페이지는 null)
+	 * @param sortBy 게시글 정렬 기준 (createdAt, likes)
+	 * @param from 기간 시작 일자
+	 * @param to 기간 마지막 일자
+	 * @return PostCursorResponseDTO 게시글 커서 페이지 조회 결과
+	 */
+	public PostCursorResponseDTO getPostCursorPage(String cursor, String sortBy, String from, String to) {
+		PostSortType sortType = PostSortType.from(sortBy);
+
+		LocalDateTime startDate;
+		LocalDateTime finishDate;
+		try {
+			startDate = from != null ? parseDateString(from, true) : MIN_DATE;
+			finishDate = to != null ? parseDateString(to, false) : MAX_DATE;
 		} catch (DateTimeParseException e) {
 			throw new IllegalArgumentException("날짜 형식이 올바르지 않습니다. yyyy-mm-dd 형식으로 입력해주세요!");
 		}
 
-		checkValidatePage(postPage, page);
-		return new PostPageResponseDTO(page, postPage);
+		if (!startDate.isBefore(finishDate)) {
+			throw new IllegalArgumentException("기간 설정이 올바르지 않습니다.");
+		}
+
+		// 다음 페이지 존재 여부 확인을 위해 한 건을 더 조회
+		Pageable limit = PageRequest.ofSize(CURSOR_PAGE_SIZE + 1);
+		PostCursor postCursor = cursor != null ? PostCursor.decode(cursor, sortBy) : null;
+		List<PostPreviewResponseDTO> postList;
+
+		if (sortType == PostSortType.LIKES) {
+			Long cursorLikes = postCursor != null ? postCursor.getLikes() : Long.MAX_VALUE;
+			Long cursorId = postCursor != null ? postCursor.getId() : Long.MAX_VALUE;
+			postList = postRepository.findPostsByLikesCursor(startDate, finishDate, cursorLikes, cursorId, limit);
+		} else {
+			LocalDateTime cursorCreatedAt = postCursor != null ? postCursor.getCreatedAt() : finishDate;
+			Long cursorId = postCursor != null ? postCursor.getId() : Long.MAX_VALUE;
+			postList = postRepository.findPostsByCreatedAtCursor(startDate, finishDate, cursorCreatedAt, cursorId, limit);
+		}
+
+		if (postList.isEmpty() && postCursor == null) {
+			throw new NoContentException("게시글이 존재하지 않습니다.");
+		}
+
+		boolean hasNext = postList.size() > CURSOR_PAGE_SIZE;
+		List<PostPreviewResponseDTO> content = hasNext ? postList.subList(0, CURSOR_PAGE_SIZE) : postList;
+		String nextCursor = hasNext ? PostCursor.of(sortBy, content.get(content.size() - 1)).encode() : null;
+
+		return new PostCursorResponseDTO(sortBy, content, nextCursor);
+	}
+
+	/**
+	 * 3-3. 전체 게시글 페이지 ETag 조회
+	 * 게시글이 생성 / 수정 / 삭제될 때마다 증가하는 세대 번호로 만들어, 페이지를 조회하기 전에 변경 여부를 판단할 수 있다.
+	 * (세대 번호를 먼저 읽으므로 이후 조회된 페이지는 항상 같거나 더 최신이다)
+	 * 좋아요 / 댓글 수 변경은 세대 번호를 바꾸지 않으므로, 캐시 TTL 단위의 구간 번호를 함께 넣어
+	 * 조건부 응답도 캐시와 같이 일정 시간이 지나면 다시 조회되게 한다.
+	 * @return 페이지 ETag (세대 번호를 조회할 수 없으면 빈 값)
+	 */
+	public Optional<String> getPostPageETag() {
+		long window = System.currentTimeMillis() / 1000 / PostPageCache.PAGE_CACHE_LIMIT_IN_SECONDS;
+		return postPageCache.findGeneration().map(generation -> "page-" + generation + "-" + window);
+	}
+
+	/**
+	 * 3-4. 좋아요를 누른 게시글 ID 조회
+	 * 게시글마다 좋아요 여부를 조회하지 않고 좋아요 색인에서 한 페이지를 한 번에 확인한다.
+	 * @param userDetails 로그인한 사용자의 세부 정보 (비로그인 시 null)
+	 * @param postList 확인할 게시글 목록
+	 * @return 좋아요를 누른 게시글 ID (비로그인 시 빈 값)
+	 */
+	public Set<Long> findLikedPostIds(UserDetailsImpl userDetails, List<PostPreviewResponseDTO> postList) {
+		if (userDetails == null) {
+			return Set.of();
+		}
+		return postLikerIndex.findLikedPostIds(userDetails.getUser().getId(),
+			postList.stream().map(PostPreviewResponseDTO::getId).toList());
 	}
 
 	/**
@@ -108,12 +228,13 @@ public class PostService {
 	 */
 	@Transactional
 	public PostResponseDTO updatePost(Long id, UserDetailsImpl userDetails, PostRequestDTO requestDto) {
-		Post post = getValidatePost(id);
+		Post post = findPost(id);
 		checkPostWriter(post, userDetails);
 
 		// 수정 진행
 		post.update(requestDto);
 		postRepository.save(post);
+		eventPublisher.publishEvent(new PostContentChangedEvent(id));
 
 		return new PostResponseDTO(post);
 	}
@@ -125,21 +246,72 @@ public class PostService {
 	 */
 	@Transactional
 	public void deletePost(Long id, UserDetailsImpl userDetails) {
-		Post post = getValidatePost(id);
+		Post post = findPost(id);
 		checkPostWriter(post, userDetails);
 		postRepository.delete(post);
+		postCountService.decrease(post.getCreatedAt());
+		eventPublisher.publishEvent(new PostDeletedEvent(id));
 	}
 
 	/**
 	 * 게시글 존재 여부 확인
+	 * 존재 여부는 게시글 캐시로 확인하고, 지연 로딩 프록시를 반환하므로 필드에 접근하기 전까지는 게시글을 조회하지 않는다.
 	 * @param id 게시글 ID
 	 * @return Post
 	 */
 	public Post getValidatePost(Long id) {
+		postCache.get(id, this::loadPost);
+		return postRepository.getReferenceById(id);
+	}
+
+	/**
+	 * 게시글 조회 (수정 / 삭제 시 캐시를 거치지 않고 최신 게시글 조회)
+	 * @param id 게시글 ID
+	 * @return Post
+	 */
+	private Post findPost(Long id) {
 		return postRepository.findById(id).orElseThrow(() ->
 			new PostException("게시글이 존재하지 않습니다."));
 	}
 
+	/**
+	 * 게시글 캐시 미스 시 작성자와 함께 게시글 조회
+	 * 조회 결과가 캐시에 저장되므로, 복제 지연으로 방금 수정된 게시글의 이전 내용을 캐시하지 않도록 primary 에서 조회한다.
+	 * @param id 게시글 ID
+	 * @return PostResponseDTO
+	 */
+	private PostResponseDTO loadPost(Long id) {
+		return ReplicationContext.callOnPrimary(() -> postRepository.findPostResponseById(id).orElseThrow(() ->
+			new PostException("게시글이 존재하지 않습니다.")));
+	}
+
+	/**
+	 * 게시글 페이지 조회
+	 * 게시글 수는 일자별 게시글 수로 구하고, 목록은 COUNT 쿼리 없이 조회
+	 * @param page 접근할 페이지
+	 * @param pageable 페이지 정보
+	 * @param startDate 기간 시작 일시 (없으면 null)
+	 * @param finishDate 기간 마지막 일시 (없으면 null)
+	 * @return PostPageResponseDTO
+	 */
+	private PostPageResponseDTO loadPostPage(Integer page, Pageable pageable, LocalDateTime startDate, LocalDateTime finishDate) {
+		long totalElements = postCountService.countPosts(startDate, finishDate);
+		checkValidatePage(totalElements, pageable, page);
+
+		Slice<PostPreviewResponseDTO> postSlice;
+		if (startDate != null && finishDate != null) {
+			postSlice = postRepository.findPostSliceByPeriod(startDate, finishDate, pageable);
+		} else if (startDate != null) {
+			postSlice = postRepository.findPostSliceByStartDate(startDate, pageable);
+		} else if (finishDate != null) {
+			postSlice = postRepository.findPostSliceByFinishDate(finishDate, pageable);
+		} else {
+			postSlice = postRepository.findPostSlice(pageable);
+		}
+
+		return new PostPageResponseDTO(page, new PageImpl<>(postSlice.getContent(), pageable, totalElements));
+	}
+
 	/**
 	 * 게시글 작성자 확인
 	 * @param post 게시글
@@ -154,11 +326,11 @@ public class PostService {
 	/**
 	 * Pageable 객체 생성
 	 * @param page 접근할 페이지
-	 * @param sortBy 게시글 정렬 기준
+	 * @param sortBy 게시글 정렬 기준 (인덱스가 있는 정렬 기준만 허용)
 	 * @return Pageable 객체
 	 */
 	public Pageable createPageable(int page, String sortBy) {
-		return PageRequest.of(page - 1, 10, Sort.Direction.DESC, sortBy);
+		return PageRequest.of(page - 1, 10, PostSortType.from(sortBy).toSort());
 	}
 
 	/**
@@ -174,15 +346,17 @@ public class PostService {
 
 	/**
 	 * 페이지 유효성 검사
-	 * @param postPage 조회된 Page<Post> 객체
+	 * @param totalElements 전체 게시글 수
+	 * @param pageable 조회할 페이지 정보
 	 * @param page 접근할 페이지
 	 */
-	private void checkValidatePage(Page<Post> postPage, Integer page) {
-		if (postPage.getTotalElements() == 0) {
+	private void checkValidatePage(long totalElements, Pageable pageable, Integer page) {
+		if (totalElements == 0) {
 			throw new NoContentException("게시글이 존재하지 않습니다.");
 		}
 
-		if (page < 1 || page > postPage.getTotalPages()) {
+		int totalPages = (int) Math.ceil((double) totalElements / pageable.getPageSize());
+		if (page < 1 || page > totalPages) {
 			throw new PageException("페이지가 존재하지 않습니다.");
 		}
 	}
@@ -0,0 +1,93 @@
+package december.spring.studywithme.service;
+
+import december.spring.studywithme.dto.PostPreviewResponseDTO;
+import december.spring.studywithme.event.PostDeletedEvent;
+import december.spring.studywithme.event.PostLikedEvent;
+import december.spring.studywithme.repository.PostRepository;
+import december.spring.studywithme.repository.TrendingPostRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 인기 게시글 순위
+ * 좋아요 등록 / 취소 시 Redis Sorted Set 의 점수를 증감하고, 일정 주기마다 모든 점수를 감쇠시켜
+ * 누적 좋아요 수가 아닌 최근 좋아요 속도로 순위를 매긴다. 조회 시에는 post / post_like 테이블을 정렬하지 않는다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class TrendingPostService {
+    private static final int MAX_SIZE = 50;
+
+    private final TrendingPostRepository trendingPostRepository;
+    private final PostRepository postRepository;
+    private final Duration decayInterval;
+    private final double decayFactor;
+
+    public TrendingPostService(TrendingPostRepository trendingPostRepository, PostRepository postRepository,
+                               @Value("${post.trending.decay-interval:PT10M}") Duration decayInterval,
+                               @Value("${post.trending.half-life:PT6H}") Duration halfLife) {
+        this.trendingPostRepository = trendingPostRepository;
+        this.postRepository = postRepository;
+        this.decayInterval = decayInterval;
+        // 감쇠 주기마다 곱할 비율 (half-life 가 지나면 점수가 절반이 된다)
+        this.decayFactor = Math.pow(0.5, (double) decayInterval.toMillis() / halfLife.toMillis());
+    }
+
+    /**
+     * 1. 인기 게시글 조회
+     * @param size 조회할 게시글 수
+     * @return List<PostPreviewResponseDTO> 점수 순 게시글 목록
+     */
+    public List<PostPreviewResponseDTO> getTrendingPosts(int size) {
+        List<Long> postIds = trendingPostRepository.findTopPostIds(Math.min(Math.max(size, 1), MAX_SIZE));
+        return postRepository.findPostPreviewsInOrder(postIds);
+    }
+
+    /**
+     * 좋아요 등록 / 취소 트랜잭션이 커밋된 후 점수 반영
+     * @param event 게시글 좋아요 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handlePostLiked(PostLikedEvent event) {
+        try {
+            trendingPostRepository.increaseScore(event.getPostId(), event.isLiked() ? 1 : -1);
+        } catch (RuntimeException e) {
+            log.warn("[TrendingPostService] 점수 반영 실패 : {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 게시글 삭제 트랜잭션이 커밋된 후 순위에서 제거
+     * @param event 게시글 삭제 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handlePostDeleted(PostDeletedEvent event) {
+        try {
+            trendingPostRepository.removePost(event.getPostId());
+        } catch (RuntimeException e) {
+            log.warn("[TrendingPostService] 순위 제거 실패 : {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 점수 감쇠 (여러 서버에서 실행되어도 주기마다 한 번만 수행)
+     */
+    @Scheduled(fixedRateString = "${post.trending.decay-interval:PT10M}")
+    public void decayScores() {
+        try {
+            if (trendingPostRepository.acquireDecayLock(decayInterval.minusSeconds(5))) {
+                trendingPostRepository.decay(decayFactor);
+            }
+        } catch (RuntimeException e) {
+            log.warn("[TrendingPostService] 점수 감쇠 실패 : {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package december.spring.studywithme.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import december.spring.studywithme.dto.PostPreviewResponseDTO;
+import december.spring.studywithme.repository.PostRepository;
+import december.spring.studywithme.service.PostCountService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class PostFeedCacheTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private PostCountService postCountService;
+
+    private PostFeedCache postFeedCache;
+
+    @BeforeEach
+    void setUp() {
+        postFeedCache = new PostFeedCache(postRepository, postCountService, new ObjectMapper().registerModule(new JavaTimeModule()),
+                5, Duration.ofMillis(100));
+    }
+
+    @Test
+    @DisplayName("스냅샷 재생성 테스트")
+    public void 스냅샷재생성() {
+        //given
+        PostPreviewResponseDTO post = new PostPreviewResponseDTO(1L, "test123456789", "제목", "내용", 2, 0L, 0L, null, null);
+        when(postCountService.countPosts(null, null)).thenReturn(1L);
+        when(postRepository.findPostSlice(any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(post), PageRequest.of(0, 10), false));
+
+        //when
+        postFeedCache.rebuild();
+
+        //then
+        Optional<PostFeedCache.FeedPage> firstPage = postFeedCache.find("createdAt", 1);
+        assertThat(firstPage).isPresent();
+        assertThat(firstPage.get().getBody().rawValue().toString()).contains("\"title\":\"제목\"");
+        assertThat(firstPage.get().getETag()).startsWith("feed-");
+        assertThat(postFeedCache.find("likes", 1)).isPresent();
+        assertThat(postFeedCache.find("createdAt", 2)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("스냅샷 재생성 요청 병합 테스트")
+    public void 스냅샷재생성요청병합() {
+        //given
+        when(postCountService.countPosts(null, null)).thenReturn(0L);
+
+        //when
+        postFeedCache.requestRebuild();
+        postFeedCache.requestRebuild();
+        postFeedCache.requestRebuild();
+
+        //then
+        verify(postCountService, timeout(1000).times(1)).countPosts(null, null);
+        verify(postCountService, after(300).times(1)).countPosts(null, null);
+        verify(postRepository, never()).findPostSlice(any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("다른 서버의 변경을 반영하도록 주기적으로 스냅샷 재생성")
+    public void 주기적재생성() {
+        //given
+        when(postCountService.countPosts(null, null)).thenReturn(0L);
+
+        //when
+        postFeedCache.scheduledRebuild();
+
+        //then
+        verify(postCountService, timeout(1000).times(1)).countPosts(null, null);
+    }
+}
@@ -0,0 +1,143 @@
+package december.spring.studywithme.cache;
+
+import december.spring.studywithme.dto.LikerDTO;
+import december.spring.studywithme.event.CommentLikedEvent;
+import december.spring.studywithme.event.PostLikedEvent;
+import december.spring.studywithme.repository.CommentLikeRepository;
+import december.spring.studywithme.repository.PostLikeRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class PostLikerIndexTest {
+
+    @Mock
+    private PostLikeRepository postLikeRepository;
+
+    @Mock
+    private CommentLikeRepository commentLikeRepository;
+
+    private PostLikerIndex postLikerIndex;
+
+    @BeforeEach
+    void setUp() {
+        postLikerIndex = new PostLikerIndex(postLikeRepository, commentLikeRepository, 100, Duration.ofMinutes(10),
+                new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("색인에 없는 게시글은 한 번의 조회로 함께 적재하고, 이후에는 조회하지 않음")
+    public void 게시글좋아요여부() {
+        //given
+        when(postLikeRepository.findLikersByPostIdIn(Set.of(1L, 2L, 3L)))
+                .thenReturn(List.of(new LikerDTO(1L, 7L), new LikerDTO(1L, 8L), new LikerDTO(3L, 7L)));
+
+        //when
+        Set<Long> likedPostIds = postLikerIndex.findLikedPostIds(7L, List.of(1L, 2L, 3L));
+        Set<Long> otherLikedPostIds = postLikerIndex.findLikedPostIds(8L, List.of(1L, 2L, 3L));
+
+        //then
+        assertThat(likedPostIds).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(otherLikedPostIds).containsExactly(1L);
+        verify(postLikeRepository, times(1)).findLikersByPostIdIn(anyCollection());
+    }
+
+    @Test
+    @DisplayName("커밋된 좋아요 등록 / 취소를 색인에 반영")
+    public void 좋아요반영() {
+        //given
+        when(postLikeRepository.findLikersByPostIdIn(Set.of(1L))).thenReturn(List.of(new LikerDTO(1L, 7L)));
+        when(commentLikeRepository.findLikersByCommentIdIn(Set.of(5L))).thenReturn(List.of());
+        postLikerIndex.findLikedPostIds(7L, List.of(1L));
+        postLikerIndex.findLikedCommentIds(7L, List.of(5L));
+
+        //when
+        postLikerIndex.handlePostLiked(new PostLikedEvent(1L, 7L, false));
+        postLikerIndex.handlePostLiked(new PostLikedEvent(1L, 9L, true));
+        postLikerIndex.handleCommentLiked(new CommentLikedEvent(1L, 5L, 7L, true));
+
+        //then
+        assertThat(postLikerIndex.findLikedPostIds(7L, List.of(1L))).isEmpty();
+        assertThat(postLikerIndex.findLikedPostIds(9L, List.of(1L))).containsExactly(1L);
+        assertThat(postLikerIndex.findLikedCommentIds(7L, List.of(5L))).containsExactly(5L);
+        verify(postLikeRepository, times(1)).findLikersByPostIdIn(anyCollection());
+        verify(commentLikeRepository, times(1)).findLikersByCommentIdIn(anyCollection());
+    }
+
+    @Test
+    @DisplayName("색인에 없는 게시글의 좋아요 이벤트는 무시하고 다음 조회 시 적재")
+    public void 미적재이벤트() {
+        //given
+        postLikerIndex.handlePostLiked(new PostLikedEvent(1L, 7L, true));
+        when(postLikeRepository.findLikersByPostIdIn(Set.of(1L))).thenReturn(List.of(new LikerDTO(1L, 7L)));
+
+        //when
+        Set<Long> likedPostIds = postLikerIndex.findLikedPostIds(7L, List.of(1L));
+
+        //then
+        assertThat(likedPostIds).containsExactly(1L);
+        assertThat(postLikerIndex.findLikedPostIds(7L, List.of())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("적재 쿼리가 실행되는 동안 커밋된 좋아요 등록 / 취소를 적재 후 반영")
+    public void 적재중좋아요반영() {
+        //given (적재 쿼리 이후 커밋되어 조회 결과에는 없는 좋아요 등록 / 취소)
+        when(postLikeRepository.findLikersByPostIdIn(Set.of(1L))).thenAnswer(invocation -> {
+            postLikerIndex.handlePostLiked(new PostLikedEvent(1L, 9L, true));
+            postLikerIndex.handlePostLiked(new PostLikedEvent(1L, 7L, false));
+            return List.of(new LikerDTO(1L, 7L));
+        });
+
+        //when
+        Set<Long> likedPostIds = postLikerIndex.findLikedPostIds(9L, List.of(1L));
+
+        //then
+        assertThat(likedPostIds).containsExactly(1L);
+        assertThat(postLikerIndex.findLikedPostIds(7L, List.of(1L))).isEmpty();
+        verify(postLikeRepository, times(1)).findLikersByPostIdIn(anyCollection());
+    }
+
+    @Test
+    @DisplayName("적재에 실패하면 기록한 변경을 지우고 다음 조회 시 다시 적재")
+    public void 적재실패() {
+        //given
+        when(postLikeRepository.findLikersByPostIdIn(Set.of(1L)))
+                .thenThrow(new IllegalStateException("connection refused"))
+                .thenReturn(List.of(new LikerDTO(1L, 7L)));
+
+        //when
+        assertThatThrownBy(() -> postLikerIndex.findLikedPostIds(7L, List.of(1L))).isInstanceOf(IllegalStateException.class);
+        Set<Long> likedPostIds = postLikerIndex.findLikedPostIds(7L, List.of(1L));
+
+        //then
+        assertThat(likedPostIds).containsExactly(1L);
+        verify(postLikeRepository, times(2)).findLikersByPostIdIn(anyCollection());
+    }
+
+    @Test
+    @DisplayName("좋아요를 누른 대상이 다르면 다른 ETag")
+    public void 좋아요ETag() {
+        //when
+        String eTag = PostLikerIndex.toLikedETag("feed-1", Set.of(3L, 1L));
+
+        //then
+        assertThat(eTag).startsWith("feed-1-liked-")
+                .isEqualTo(PostLikerIndex.toLikedETag("feed-1", Set.of(1L, 3L)))
+                .isNotEqualTo(PostLikerIndex.toLikedETag("feed-1", Set.of(1L)));
+    }
+}
@@ -0,0 +1,84 @@
+package december.spring.studywithme.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import december.spring.studywithme.event.CommentLikedEvent;
+import december.spring.studywithme.event.PostLikedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class PostLikerRedisRelayTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Mock
+    private PostLikerIndex postLikerIndex;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private PostLikerRedisRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        relay = new PostLikerRedisRelay(redisTemplate, redisMessageListenerContainer, postLikerIndex, objectMapper);
+    }
+
+    @Test
+    @DisplayName("다른 서버에서 발행한 게시글 / 댓글 좋아요 변경을 색인에 반영")
+    public void 다른서버변경반영() {
+        //given
+        PostLikerIndex otherPostLikerIndex = mock(PostLikerIndex.class);
+        PostLikerRedisRelay otherRelay = new PostLikerRedisRelay(redisTemplate, redisMessageListenerContainer, otherPostLikerIndex, objectMapper);
+        otherRelay.handlePostLiked(new PostLikedEvent(1L, 7L, true));
+        otherRelay.handleCommentLiked(new CommentLikedEvent(1L, 3L, 7L, false));
+        ArgumentCaptor<String> published = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate, times(2)).convertAndSend(eq(PostLikerRedisRelay.CHANNEL), published.capture());
+
+        //when
+        published.getAllValues().forEach(json -> relay.onMessage(toMessage(json), null));
+
+        //then
+        verify(postLikerIndex).handlePostLiked(argThat(event -> event.getPostId() == 1L && event.getUserId() == 7L && event.isLiked()));
+        verify(postLikerIndex).handleCommentLiked(argThat(event -> event.getCommentId() == 3L && event.getUserId() == 7L && !event.isLiked()));
+        verifyNoInteractions(otherPostLikerIndex);
+    }
+
+    @Test
+    @DisplayName("자신이 발행한 좋아요 변경은 이미 반영했으므로 무시")
+    public void 자신의변경무시() {
+        //given
+        relay.handlePostLiked(new PostLikedEvent(1L, 7L, true));
+        ArgumentCaptor<String> published = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(PostLikerRedisRelay.CHANNEL), published.capture());
+
+        //when
+        relay.onMessage(toMessage(published.getValue()), null);
+
+        //then
+        verify(postLikerIndex, never()).handlePostLiked(any());
+    }
+
+    private Message toMessage(String json) {
+        return new DefaultMessage(PostLikerRedisRelay.CHANNEL.getBytes(StandardCharsets.UTF_8), json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,71 @@
+package december.spring.studywithme.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import december.spring.studywithme.dto.PostPageResponseDTO;
+import december.spring.studywithme.event.PostContentChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class PostPageCacheTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private PostPageCache postPageCache;
+
+    @BeforeEach
+    void setUp() {
+        postPageCache = new PostPageCache(redisTemplate, new ObjectMapper().registerModule(new JavaTimeModule()));
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("세대 번호를 포함한 정규화된 키로 저장 테스트")
+    public void 캐시저장() {
+        //when
+        postPageCache.save("3", LocalDate.of(2024, 6, 1).atStartOfDay(), null, "likes", 2, new PostPageResponseDTO());
+
+        //then
+        verify(valueOperations, times(1)).set(eq("post:page:3:2024-06-01:-:likes:2"), anyString(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("게시글 생성 / 수정 / 삭제 시 세대 번호 증가 테스트")
+    public void 세대번호증가() {
+        //when
+        postPageCache.handlePostContentChanged(new PostContentChangedEvent(1L));
+
+        //then
+        verify(valueOperations, times(1)).increment(PostPageCache.GENERATION_KEY);
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 캐시 미스 처리 테스트")
+    public void 캐시조회실패() {
+        //given
+        when(valueOperations.get(anyString())).thenThrow(new IllegalStateException("connection refused"));
+
+        //then
+        assertThat(postPageCache.find("3", null, LocalDate.of(2024, 6, 8).atStartOfDay(), "createdAt", 1)).isEmpty();
+    }
+}
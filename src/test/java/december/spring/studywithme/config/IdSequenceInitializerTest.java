@@ -0,0 +1,99 @@
+package december.spring.studywithme.config;
+
+import december.spring.studywithme.entity.Post;
+import december.spring.studywithme.entity.User;
+import december.spring.studywithme.repository.PostRepository;
+import december.spring.studywithme.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:sequence;MODE=MySQL;NON_KEYWORDS=USER",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password="
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(IdSequenceInitializer.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class IdSequenceInitializerTest {
+
+    @Autowired
+    private IdSequenceInitializer idSequenceInitializer;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        // IDENTITY 로 발급되어 있던 기존 데이터
+        jdbcTemplate.update("insert into user (id, user_id, password, name, email, user_type) " +
+                "values (1, 'test123456789', 'encodedPassword', 'test', 'test@test.com', 'ACTIVE')");
+        for (int i = 1; i <= 120; i++) {
+            jdbcTemplate.update("insert into post_body (id, contents) values (?, '내용')", i);
+            jdbcTemplate.update("insert into post (id, user_id, body_id, title, preview, contents_length, likes) " +
+                    "values (?, 1, ?, '제목', '내용', 2, 0)", i, i);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (String table : List.of("post", "post_body", "user")) {
+            jdbcTemplate.update("delete from " + table);
+        }
+    }
+
+    @Test
+    @DisplayName("ID 발급 값을 기존 최대 ID 이후로 맞추어 새 ID 가 겹치지 않음")
+    public void ID발급값맞춤() {
+        //given
+        idSequenceInitializer.synchronize();
+        User user = userRepository.findById(1L).orElseThrow();
+
+        //when
+        Post post = postRepository.save(Post.builder()
+                .user(user)
+                .title("제목")
+                .contents("내용")
+                .build());
+
+        //then
+        assertThat(post.getId()).isGreaterThan(120L);
+        assertThat(post.getBody().getId()).isGreaterThan(120L);
+    }
+
+    @Test
+    @DisplayName("ID 발급 값이 이미 충분히 크면 낮추지 않음")
+    public void ID발급값유지() {
+        //given
+        jdbcTemplate.update("update id_sequence set next_val = 5000 where sequence_name = 'comment'");
+
+        //when
+        idSequenceInitializer.synchronize();
+
+        //then
+        assertThat(jdbcTemplate.queryForObject("select next_val from id_sequence where sequence_name = 'comment'", Long.class))
+                .isEqualTo(5000L);
+        assertThat(jdbcTemplate.queryForObject("select next_val from id_sequence where sequence_name = 'post'", Long.class))
+                .isGreaterThanOrEqualTo(170L);
+    }
+}
@@ -0,0 +1,121 @@
+package december.spring.studywithme.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:liketable;MODE=MySQL;NON_KEYWORDS=USER",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password="
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(LikeTableInitializer.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class LikeTableInitializerTest {
+
+    @Autowired
+    private LikeTableInitializer likeTableInitializer;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        // id 를 AUTO_INCREMENT 기본 키로 사용하던 기존 좋아요 테이블
+        jdbcTemplate.execute("drop table if exists post_like");
+        jdbcTemplate.execute("create table post_like (id bigint auto_increment, user_id bigint not null, post_id bigint not null, " +
+                "is_like boolean not null, created_at timestamp, modified_at timestamp, primary key (id), " +
+                "constraint uk_post_like_user_id_post_id unique (user_id, post_id))");
+        jdbcTemplate.update("insert into post_like (user_id, post_id, is_like) values (1, 1, true)");
+        jdbcTemplate.update("insert into post_like (user_id, post_id, is_like) values (2, 1, false)");
+    }
+
+    @Test
+    @DisplayName("중복 행을 지운 뒤 id / 등록 / 수정 시각 삭제와 기본 키 추가를 한 문장으로 실행")
+    public void 한문장변경() {
+        //given
+        JdbcTemplate mockJdbcTemplate = mock(JdbcTemplate.class);
+        when(mockJdbcTemplate.queryForObject(anyString(), eq(Integer.class), any(), any())).thenReturn(1);
+
+        //when
+        new LikeTableInitializer(mockJdbcTemplate).migrate();
+
+        //then
+        InOrder inOrder = inOrder(mockJdbcTemplate);
+        inOrder.verify(mockJdbcTemplate).update(LikeTableInitializer.toDeduplicationSql(LikeTableInitializer.TABLES.get(0)));
+        inOrder.verify(mockJdbcTemplate).execute("alter table post_like drop primary key, drop column id, drop column created_at, " +
+                "drop column modified_at, add primary key (post_id, user_id)");
+        verify(mockJdbcTemplate).execute("alter table comment_like drop primary key, drop column id, drop column created_at, " +
+                "drop column modified_at, add primary key (comment_id, user_id)");
+    }
+
+    @Test
+    @DisplayName("유니크 키가 추가되지 못한 테이블의 중복 행은 id 가 가장 작은 행만 남김")
+    public void 중복행삭제() {
+        //given (동시 요청으로 같은 사용자 / 게시글의 행이 여러 개 생긴 테이블)
+        jdbcTemplate.execute("drop table if exists post_like");
+        jdbcTemplate.execute("create table post_like (id bigint auto_increment, user_id bigint not null, post_id bigint not null, " +
+                "is_like boolean not null, primary key (id))");
+        jdbcTemplate.update("insert into post_like (user_id, post_id, is_like) values (1, 1, true)");
+        jdbcTemplate.update("insert into post_like (user_id, post_id, is_like) values (1, 1, true)");
+        jdbcTemplate.update("insert into post_like (user_id, post_id, is_like) values (1, 1, false)");
+        jdbcTemplate.update("insert into post_like (user_id, post_id, is_like) values (2, 1, true)");
+
+        //when
+        int removed = jdbcTemplate.update(LikeTableInitializer.toDeduplicationSql(LikeTableInitializer.TABLES.get(0)));
+
+        //then
+        assertThat(removed).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForList("select id from post_like order by id", Long.class)).containsExactly(1L, 4L);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 먼저 변경하여 실패한 경우는 무시")
+    public void 다른인스턴스변경() {
+        //given
+        JdbcTemplate mockJdbcTemplate = mock(JdbcTemplate.class);
+        when(mockJdbcTemplate.queryForObject(anyString(), eq(Integer.class), any(), any())).thenReturn(1, 0, 0);
+        doThrow(new BadSqlGrammarException("alter", "alter", new SQLException("Can't DROP 'PRIMARY'")))
+                .when(mockJdbcTemplate).execute(anyString());
+
+        //when, then
+        assertThatCode(() -> new LikeTableInitializer(mockJdbcTemplate).migrate()).doesNotThrowAnyException();
+        verify(mockJdbcTemplate, times(1)).execute(anyString());
+    }
+
+    @Test
+    @DisplayName("변경에 실패하면 테이블을 그대로 두고 시작을 중단")
+    public void 변경실패() {
+        //when, then (H2 는 여러 변경을 한 문장으로 실행하지 못하므로 실패하는 변경으로 사용)
+        assertThatThrownBy(() -> likeTableInitializer.migrate()).isInstanceOf(DataAccessException.class);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from information_schema.columns " +
+                "where lower(table_name) = 'post_like' and lower(column_name) in ('id', 'created_at', 'modified_at')", Integer.class))
+                .isEqualTo(3);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from post_like", Integer.class)).isEqualTo(2);
+        assertThatThrownBy(() -> jdbcTemplate.update("insert into post_like (user_id, post_id, is_like) values (1, 1, true)"))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+}
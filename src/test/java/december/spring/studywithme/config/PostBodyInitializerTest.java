@@ -0,0 +1,75 @@
+package december.spring.studywithme.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:postbody;MODE=MySQL;NON_KEYWORDS=USER",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password="
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({PostBodyInitializer.class, IdSequenceInitializer.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class PostBodyInitializerTest {
+
+    @Autowired
+    private PostBodyInitializer postBodyInitializer;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        // ddl-auto=update 가 새 컬럼만 추가한 기존 게시글 테이블 (body_id 는 0, 본문은 contents 에 남아 있음)
+        jdbcTemplate.execute("drop table if exists post cascade");
+        jdbcTemplate.execute("delete from post_body");
+        jdbcTemplate.execute("create table post (id bigint not null, user_id bigint, title varchar(255) not null, " +
+                "contents varchar(1000) not null, body_id bigint default 0 not null, preview varchar(100) default '' not null, " +
+                "contents_length integer default 0 not null, likes bigint not null, comment_count bigint default 0 not null, " +
+                "created_at timestamp, modified_at timestamp, primary key (id))");
+        jdbcTemplate.update("insert into post (id, user_id, title, contents, likes) values (1, 1, '제목', '내용', 0)");
+        jdbcTemplate.update("insert into post (id, user_id, title, contents, likes) values (150, 1, '제목', ?, 0)", "가".repeat(120));
+    }
+
+    @Test
+    @DisplayName("기존 게시글의 본문을 옮기고 미리보기 / 문자 수를 채운 뒤 contents 컬럼 삭제")
+    public void 본문이전() {
+        //when
+        postBodyInitializer.migrate();
+
+        //then
+        assertThat(jdbcTemplate.queryForObject("select count(*) from post p join post_body b on b.id = p.body_id", Integer.class))
+                .isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject("select contents from post_body where id = 1", String.class)).isEqualTo("내용");
+        assertThat(jdbcTemplate.queryForObject("select preview from post where id = 150", String.class)).isEqualTo("가".repeat(100));
+        assertThat(jdbcTemplate.queryForObject("select contents_length from post where id = 150", Integer.class)).isEqualTo(120);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from information_schema.columns " +
+                "where lower(table_name) = 'post' and lower(column_name) = 'contents'", Integer.class)).isZero();
+        assertThat(jdbcTemplate.queryForObject("select next_val from id_sequence where sequence_name = 'post_body'", Long.class))
+                .isGreaterThan(150L);
+    }
+
+    @Test
+    @DisplayName("이미 이전된 테이블은 다시 실행해도 변경하지 않음")
+    public void 재실행() {
+        //given
+        postBodyInitializer.migrate();
+
+        //when, then
+        assertThatCode(() -> postBodyInitializer.migrate()).doesNotThrowAnyException();
+        assertThat(jdbcTemplate.queryForObject("select count(*) from post_body", Integer.class)).isEqualTo(2);
+    }
+}
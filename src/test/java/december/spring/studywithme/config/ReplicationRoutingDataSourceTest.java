@@ -0,0 +1,177 @@
+package december.spring.studywithme.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ReplicationRoutingDataSourceTest {
+
+    private EmbeddedDatabase primary;
+    private EmbeddedDatabase replica;
+    private FailableDataSource replicaConnection;
+    private ReplicationRoutingDataSource routingDataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    private EmbeddedDatabase createDatabase(String name) {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .setName(name)
+                .build();
+        new JdbcTemplate(database).execute("create table node (name varchar(20))");
+        new JdbcTemplate(database).update("insert into node values (?)", name);
+        return database;
+    }
+
+    @BeforeEach
+    void setUp() {
+        primary = createDatabase("primary");
+        replica = createDatabase("replica");
+        replicaConnection = new FailableDataSource(replica);
+        routingDataSource = new ReplicationRoutingDataSource(primary, List.of(replicaConnection));
+        routingDataSource.afterPropertiesSet();
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReplicationContext.clear();
+        RequestContextHolder.resetRequestAttributes();
+        primary.shutdown();
+        replica.shutdown();
+    }
+
+    private String currentNode(TransactionTemplate transactionTemplate) {
+        return transactionTemplate.execute(status -> jdbcTemplate.queryForObject("select name from node", String.class));
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 replica, 쓰기 트랜잭션은 primary 로 라우팅")
+    public void 트랜잭션라우팅() {
+        assertThat(currentNode(readOnlyTransaction)).isEqualTo("replica");
+        assertThat(currentNode(writeTransaction)).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션 이후 같은 요청 스레드의 조회는 primary 로 라우팅")
+    public void 쓰기이후조회() {
+        //given
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+        //when
+        currentNode(writeTransaction);
+
+        //then
+        assertThat(currentNode(readOnlyTransaction)).isEqualTo("primary");
+
+        ReplicationContext.clear();
+        assertThat(currentNode(readOnlyTransaction)).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("요청 밖의 스레드는 쓰기 트랜잭션이 끝나면 primary 고정 해제")
+    public void 요청밖쓰기이후조회() {
+        //when
+        currentNode(writeTransaction);
+
+        //then
+        assertThat(ReplicationContext.isPrimaryPinned()).isFalse();
+        assertThat(currentNode(readOnlyTransaction)).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("runOnPrimary 안에서 실행한 쓰기 트랜잭션은 primary 고정을 해제하지 않음")
+    public void primary고정실행중쓰기() {
+        String[] node = new String[1];
+
+        ReplicationContext.runOnPrimary(() -> {
+            currentNode(writeTransaction);
+            node[0] = currentNode(readOnlyTransaction);
+        });
+
+        assertThat(node[0]).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("replica 장애 시 primary 로 라우팅하고 복구되면 다시 replica 사용")
+    public void replica장애() {
+        //given
+        replicaConnection.down = true;
+
+        //when
+        routingDataSource.checkReplicaHealth();
+
+        //then
+        assertThat(currentNode(readOnlyTransaction)).isEqualTo("primary");
+
+        //when
+        replicaConnection.down = false;
+        routingDataSource.checkReplicaHealth();
+
+        //then
+        assertThat(currentNode(readOnlyTransaction)).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("runOnPrimary 로 실행한 읽기 전용 트랜잭션은 primary 로 라우팅")
+    public void primary고정실행() {
+        String[] node = new String[1];
+
+        ReplicationContext.runOnPrimary(() -> node[0] = currentNode(readOnlyTransaction));
+
+        assertThat(node[0]).isEqualTo("primary");
+        assertThat(currentNode(readOnlyTransaction)).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("callOnPrimary 로 실행한 읽기 전용 트랜잭션은 primary 에서 조회한 결과를 반환")
+    public void primary고정조회() {
+        String node = ReplicationContext.callOnPrimary(() -> currentNode(readOnlyTransaction));
+
+        assertThat(node).isEqualTo("primary");
+        assertThat(ReplicationContext.isPrimaryPinned()).isFalse();
+    }
+
+    // 연결 실패를 흉내 내는 데이터소스
+    private static class FailableDataSource extends DelegatingDataSource {
+        private volatile boolean down;
+
+        FailableDataSource(DataSource dataSource) {
+            super(dataSource);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (down) {
+                throw new SQLException("connection refused");
+            }
+            return super.getConnection();
+        }
+    }
+}
@@ -2,7 +2,9 @@ package december.spring.studywithme.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import december.spring.studywithme.config.SecurityConfig;
+import december.spring.studywithme.dto.CommentPageResponseDTO;
 import december.spring.studywithme.dto.CommentRequestDTO;
+import december.spring.studywithme.dto.CommentResponseDTO;
 import december.spring.studywithme.entity.User;
 import december.spring.studywithme.entity.UserType;
 import december.spring.studywithme.filter.MockSpringSecurityFilter;
@@ -17,6 +19,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.test.context.TestPropertySource;
@@ -25,10 +28,17 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 
 import java.security.Principal;
+import java.util.List;
+import java.util.Set;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @TestPropertySource(locations = "classpath:properties/env.properties")
@@ -97,18 +107,74 @@ public class CommentControllerTest {
                 .andDo(print());
     }
 
+    @Test
+    @DisplayName("답글 등록 테스트")
+    public void 답글등록() throws Exception{
+        //given
+        Long postId = 1L;
+        Long commentId = 1L;
+        mockUserSetup();
+        CommentRequestDTO requestDTO = new CommentRequestDTO();
+        requestDTO.setContents("답글");
+
+        String jsonRequestDto = objectMapper.writeValueAsString(requestDTO);
+
+        //when, then
+        mockMvc.perform(post("/api/posts/{postId}/comments/{commentId}/replies", postId, commentId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(jsonRequestDto)
+                .principal(mockPrincipal))
+                .andExpect(status().isCreated())
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("답글 스레드 조회 테스트")
+    public void 답글스레드조회() throws Exception{
+        //given
+        Long postId = 1L;
+        Long commentId = 1L;
+        mockUserSetup();
+        given(commentService.getReplies(postId, commentId, null)).willReturn(new CommentPageResponseDTO(List.of(), null));
+
+        //when, then
+        mockMvc.perform(get("/api/posts/{postId}/comments/{commentId}/replies", postId, commentId)
+                        .principal(mockPrincipal))
+                .andExpect(status().isOk())
+                .andDo(print());
+    }
+
     @Test
     @DisplayName("전체 댓글 조회 테스트")
     public void 전체댓글조회() throws Exception{
         //given
         Long id = 1L;
         mockUserSetup();
+        CommentResponseDTO comment = new CommentResponseDTO(1L, "test123456789", id, null, 0, "00000001", "댓글", null, null);
+        given(commentService.getAllComments(id, null)).willReturn(new CommentPageResponseDTO(List.of(comment), null));
+        given(commentService.findLikedCommentIds(any(), any())).willReturn(Set.of(1L));
 
         //when, then
         mockMvc.perform(get("/api/posts/{id}/comments", id)
                         .principal(mockPrincipal))
                 .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.commentList[0].likedByMe").value(true))
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("전체 댓글 조건부 조회 테스트")
+    public void 전체댓글조건부조회() throws Exception{
+        //given
+        Long id = 1L;
+        given(commentService.getAllCommentsETag(id)).willReturn("comments-1-2-2024-06-16T12:00");
+
+        //when, then
+        mockMvc.perform(get("/api/posts/{id}/comments", id)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"comments-1-2-2024-06-16T12:00\""))
+                .andExpect(status().isNotModified())
                 .andDo(print());
+        verify(commentService, never()).getAllComments(id, null);
     }
 
     @Test
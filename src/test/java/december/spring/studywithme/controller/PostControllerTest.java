@@ -3,12 +3,19 @@ package december.spring.studywithme.controller;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import december.spring.studywithme.config.SecurityConfig;
+import december.spring.studywithme.dto.PostPageResponseDTO;
+import december.spring.studywithme.dto.PostPreviewResponseDTO;
 import december.spring.studywithme.dto.PostRequestDTO;
+import december.spring.studywithme.dto.PostResponseDTO;
 import december.spring.studywithme.entity.User;
 import december.spring.studywithme.entity.UserType;
 import december.spring.studywithme.filter.MockSpringSecurityFilter;
+import december.spring.studywithme.live.PostLiveBroker;
 import december.spring.studywithme.security.UserDetailsImpl;
+import december.spring.studywithme.service.PostExportService;
+import december.spring.studywithme.service.PostSearchService;
 import december.spring.studywithme.service.PostService;
+import december.spring.studywithme.service.TrendingPostService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,18 +24,37 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.security.Principal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @TestPropertySource(locations = "classpath:properties/env.properties")
@@ -56,6 +82,18 @@ public class PostControllerTest {
     @MockBean
     private PostService postService;
 
+    @MockBean
+    private TrendingPostService trendingPostService;
+
+    @MockBean
+    private PostSearchService postSearchService;
+
+    @MockBean
+    private PostExportService postExportService;
+
+    @MockBean
+    private PostLiveBroker postLiveBroker;
+
     @BeforeEach
     public void setup() {
         mockMvc = MockMvcBuilders.webAppContextSetup(context)
@@ -102,13 +140,63 @@ public class PostControllerTest {
     public void 단일게시글조회() throws Exception {
         //given
         Long id = 1L;
+        given(postService.getPost(id)).willReturn(new PostResponseDTO(id, "test123456789", "제목", "내용", 0L,
+                LocalDateTime.of(2024, 6, 16, 12, 0), LocalDateTime.of(2024, 6, 16, 12, 0)));
 
         //when, then
         mockMvc.perform(get("/api/posts/{id}", id))
                 .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("단일 게시글 조건부 조회 테스트")
+    public void 단일게시글조건부조회() throws Exception {
+        //given
+        Long id = 1L;
+        PostResponseDTO post = new PostResponseDTO(id, "test123456789", "제목", "내용", 3L,
+                LocalDateTime.of(2024, 6, 16, 12, 0), LocalDateTime.of(2024, 6, 16, 12, 0));
+        given(postService.getPost(id)).willReturn(post);
+
+        //when, then
+        mockMvc.perform(get("/api/posts/{id}", id)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"" + post.toETag() + "\""))
+                .andExpect(status().isNotModified())
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("수정 시각이 같아도 좋아요 수가 바뀐 게시글은 다시 조회")
+    public void 단일게시글좋아요변경조회() throws Exception {
+        //given
+        Long id = 1L;
+        LocalDateTime modifiedAt = LocalDateTime.of(2024, 6, 16, 12, 0);
+        given(postService.getPost(id)).willReturn(new PostResponseDTO(id, "test123456789", "제목", "내용", 4L, modifiedAt, modifiedAt));
+
+        //when, then
+        mockMvc.perform(get("/api/posts/{id}", id)
+                        .header(HttpHeaders.IF_MODIFIED_SINCE, "Mon, 17 Jun 2024 00:00:00 GMT"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.LAST_MODIFIED))
                 .andDo(print());
     }
 
+    @Test
+    @DisplayName("전체 게시글 조건부 조회 테스트")
+    public void 전체게시글조건부조회() throws Exception {
+        //given
+        given(postService.getPostPageETag()).willReturn(Optional.of("page-7"));
+
+        //when, then
+        mockMvc.perform(get("/api/posts")
+                        .param("from", "2024-06-16")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"page-7\""))
+                .andExpect(status().isNotModified())
+                .andDo(print());
+        verify(postService, never()).getPostPage(any(), any(), any(), any());
+    }
+
     @Test
     @DisplayName("전체 게시글 조회 테스트")
     public void 전체게시글조회() throws Exception {
@@ -123,6 +211,98 @@ public class PostControllerTest {
                 .andDo(print());
     }
 
+    @Test
+    @DisplayName("로그인한 사용자의 전체 게시글 조회 시 좋아요 여부 표시 테스트")
+    public void 전체게시글좋아요여부() throws Exception {
+        //given
+        mockUserSetup();
+        List<PostPreviewResponseDTO> postList = List.of(
+                new PostPreviewResponseDTO(1L, "test123456789", "제목", "내용", 2, 1L, 0L, null, null),
+                new PostPreviewResponseDTO(2L, "test123456789", "제목", "내용", 2, 0L, 0L, null, null));
+        PostPageResponseDTO postPage = new PostPageResponseDTO(1, new PageImpl<>(postList, PageRequest.of(0, 10), 2));
+        given(postService.getPostPage(1, "createdAt", "2024-06-16", null)).willReturn(postPage);
+        given(postService.findLikedPostIds(any(), any())).willReturn(Set.of(1L));
+
+        //when, then
+        mockMvc.perform(get("/api/posts")
+                        .param("from", "2024-06-16")
+                        .principal(mockPrincipal))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.postList[0].likedByMe").value(true))
+                .andExpect(jsonPath("$.data.postList[1].likedByMe").value(false))
+                .andDo(print());
+
+        // 캐시된 페이지는 변경하지 않는다
+        assertThat(postList.get(0).getLikedByMe()).isNull();
+    }
+
+    @Test
+    @DisplayName("전체 게시글 커서 조회 테스트")
+    public void 전체게시글커서조회() throws Exception {
+        //when, then
+        mockMvc.perform(get("/api/posts/cursor")
+                        .param("sortBy", "likes")
+                        .param("from", "2024-06-16")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("인기 게시글 조회 테스트")
+    public void 인기게시글조회() throws Exception {
+        //when, then
+        mockMvc.perform(get("/api/posts/trending")
+                        .param("size", "5"))
+                .andExpect(status().isOk())
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("게시글 검색 테스트")
+    public void 게시글검색() throws Exception {
+        //when, then
+        mockMvc.perform(get("/api/posts/search")
+                        .param("keyword", "스터디")
+                        .param("page", "1"))
+                .andExpect(status().isOk())
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("전체 게시글 내보내기 테스트")
+    public void 전체게시글내보내기() throws Exception {
+        //given
+        mockUserSetup();
+        MvcResult mvcResult = mockMvc.perform(get("/api/posts/export")
+                        .principal(mockPrincipal))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        //when, then (내보내기 응답에만 긴 제한 시간 적용)
+        assertThat(mvcResult.getRequest().getAsyncContext().getTimeout()).isEqualTo(Duration.ofHours(1).toMillis());
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andDo(print());
+        verify(postExportService).exportPosts(any());
+    }
+
+    @Test
+    @DisplayName("게시글 실시간 구독 테스트")
+    public void 게시글실시간구독() throws Exception {
+        //given
+        Long id = 1L;
+        given(postLiveBroker.subscribe(id)).willReturn(new SseEmitter());
+
+        //when, then
+        mockMvc.perform(get("/api/posts/{id}/live", id)
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andDo(print());
+        verify(postLiveBroker).subscribe(id);
+    }
+
     @Test
     @DisplayName("게시글 수정 테스트")
     public void 게시글수정() throws Exception {
@@ -0,0 +1,31 @@
+package december.spring.studywithme.controller;
+
+import december.spring.studywithme.config.QueryCountFilter;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 요청별 SQL 문 수 예산 검증 (debug 프로파일의 QueryCountFilter 가 추가한 X-Query-Count 헤더 사용)
+ */
+public final class QueryBudget {
+
+    private QueryBudget() {
+    }
+
+    /**
+     * 요청에서 실행된 SQL 문 수가 예산 이하인지 확인
+     * @param budget 허용하는 최대 SQL 문 수
+     * @return ResultMatcher
+     */
+    public static ResultMatcher withinQueryBudget(int budget) {
+        return result -> {
+            String count = result.getResponse().getHeader(QueryCountFilter.QUERY_COUNT_HEADER);
+
+            assertThat(count).as("%s 헤더", QueryCountFilter.QUERY_COUNT_HEADER).isNotNull();
+            assertThat(Integer.parseInt(count))
+                    .as("%s %s 의 SQL 문 수", result.getRequest().getMethod(), result.getRequest().getRequestURI())
+                    .isLessThanOrEqualTo(budget);
+        };
+    }
+}
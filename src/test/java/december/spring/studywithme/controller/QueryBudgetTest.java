@@ -0,0 +1,297 @@
+package december.spring.studywithme.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import december.spring.studywithme.cache.PostFeedCache;
+import december.spring.studywithme.cache.PostPageCache;
+import december.spring.studywithme.dto.CommentRequestDTO;
+import december.spring.studywithme.dto.PostRequestDTO;
+import december.spring.studywithme.entity.Comment;
+import december.spring.studywithme.entity.Post;
+import december.spring.studywithme.entity.User;
+import december.spring.studywithme.entity.UserType;
+import december.spring.studywithme.jwt.JwtUtil;
+import december.spring.studywithme.repository.CommentRepository;
+import december.spring.studywithme.repository.PostRepository;
+import december.spring.studywithme.repository.TrendingPostRepository;
+import december.spring.studywithme.repository.UserRepository;
+import december.spring.studywithme.search.PostSearchIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.List;
+
+import static december.spring.studywithme.controller.QueryBudget.withinQueryBudget;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 엔드포인트별 SQL 문 수 예산
+ * 실제 리포지토리(H2)로 요청을 처리하고 QueryCountFilter 가 센 SQL 문 수가 선언한 예산 이하인지 확인한다.
+ * 새 N+1 이 생기면 예산을 넘어 실패하므로, 예산을 올리기 전에 쿼리를 먼저 확인한다.
+ * Redis / 검색 색인을 사용하는 빈은 목으로 대체한다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:budget;MODE=MySQL;NON_KEYWORDS=USER",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.mail.username=test",
+        "spring.mail.password=test",
+        "spring.data.redis.mail.port=6379"
+})
+@TestPropertySource(locations = "classpath:properties/env.properties")
+@AutoConfigureMockMvc
+@ActiveProfiles("debug")
+public class QueryBudgetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private PostPageCache postPageCache;
+
+    @MockBean
+    private PostFeedCache postFeedCache;
+
+    @MockBean
+    private TrendingPostRepository trendingPostRepository;
+
+    @MockBean
+    private PostSearchIndex postSearchIndex;
+
+    private Post post;
+    private Comment comment;
+
+    @BeforeEach
+    void setUp() {
+        User writer = userRepository.save(createUser("writer123456"));
+        User viewer = userRepository.save(createUser("viewer123456"));
+
+        post = postRepository.save(Post.builder()
+                .user(writer)
+                .title("제목")
+                .contents("내용")
+                .build());
+
+        for (int i = 0; i < 30; i++) {
+            comment = commentRepository.save(Comment.builder()
+                    .post(post)
+                    .user(viewer)
+                    .contents("댓글" + i)
+                    .build());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (String table : List.of("comment_like", "post_like", "comment", "post", "post_body", "post_daily_count", "user")) {
+            jdbcTemplate.update("delete from " + table);
+        }
+    }
+
+    @Test
+    @DisplayName("단일 게시글 조회 SQL 문 수")
+    public void 단일게시글조회() throws Exception {
+        mockMvc.perform(get("/api/posts/{id}", post.getId()))
+                .andExpect(status().isOk())
+                .andExpect(withinQueryBudget(1));
+    }
+
+    @Test
+    @DisplayName("게시글 페이지 조회 SQL 문 수")
+    public void 게시글페이지조회() throws Exception {
+        mockMvc.perform(get("/api/posts").param("page", "1"))
+                .andExpect(status().isOk())
+                .andExpect(withinQueryBudget(1));
+    }
+
+    @Test
+    @DisplayName("게시글 커서 페이지 조회 SQL 문 수")
+    public void 게시글커서페이지조회() throws Exception {
+        mockMvc.perform(get("/api/posts/cursor"))
+                .andExpect(status().isOk())
+                .andExpect(withinQueryBudget(1));
+    }
+
+    @Test
+    @DisplayName("인기 게시글 조회 SQL 문 수")
+    public void 인기게시글조회() throws Exception {
+        given(trendingPostRepository.findTopPostIds(anyInt())).willReturn(List.of(post.getId()));
+
+        mockMvc.perform(get("/api/posts/trending"))
+                .andExpect(status().isOk())
+                .andExpect(withinQueryBudget(1));
+    }
+
+    @Test
+    @DisplayName("게시글 검색 SQL 문 수")
+    public void 게시글검색() throws Exception {
+        given(postSearchIndex.search(anyString(), any())).willReturn(new PageImpl<>(List.of(post.getId())));
+
+        mockMvc.perform(get("/api/posts/search").param("keyword", "제목"))
+                .andExpect(status().isOk())
+                .andExpect(withinQueryBudget(1));
+    }
+
+    @Test
+    @DisplayName("게시글 등록 SQL 문 수")
+    public void 게시글등록() throws Exception {
+        mockMvc.perform(authenticated(post("/api/posts"), "writer123456")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createPostRequest())))
+                .andExpect(status().isCreated())
+                .andExpect(withinQueryBudget(4));
+    }
+
+    @Test
+    @DisplayName("게시글 수정 SQL 문 수")
+    public void 게시글수정() throws Exception {
+        mockMvc.perform(authenticated(put("/api/posts/{id}", post.getId()), "writer123456")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createPostRequest())))
+                .andExpect(status().isOk())
+                .andExpect(withinQueryBudget(4));
+    }
+
+    @Test
+    @DisplayName("게시글 좋아요 SQL 문 수")
+    public void 게시글좋아요() throws Exception {
+        mockMvc.perform(authenticated(post("/api/posts/{postId}/like", post.getId()), "viewer123456"))
+                .andExpect(status().isOk())
+                .andExpect(withinQueryBudget(5));
+    }
+
+    @Test
+    @DisplayName("댓글 등록 SQL 문 수")
+    public void 댓글등록() throws Exception {
+        mockMvc.perform(authenticated(post("/api/posts/{postId}/comments", post.getId()), "viewer123456")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createCommentRequest())))
+                .andExpect(status().isCreated())
+                .andExpect(withinQueryBudget(4));
+    }
+
+    @Test
+    @DisplayName("전체 댓글 조회 SQL 문 수 (댓글 수와 무관)")
+    public void 전체댓글조회() throws Exception {
+        mockMvc.perform(get("/api/posts/{postId}/comments", post.getId()))
+                .andExpect(status().isOk())
+                .andExpect(withinQueryBudget(3));
+    }
+
+    @Test
+    @DisplayName("답글 등록 SQL 문 수")
+    public void 답글등록() throws Exception {
+        mockMvc.perform(authenticated(post("/api/posts/{postId}/comments/{commentId}/replies", post.getId(), comment.getId()), "writer123456")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createCommentRequest())))
+                .andExpect(status().isCreated())
+                .andExpect(withinQueryBudget(6));
+    }
+
+    @Test
+    @DisplayName("답글 스레드 조회 SQL 문 수 (답글 수와 무관)")
+    public void 답글스레드조회() throws Exception {
+        mockMvc.perform(get("/api/posts/{postId}/comments/{commentId}/replies", post.getId(), comment.getId()))
+                .andExpect(status().isOk())
+                .andExpect(withinQueryBudget(3));
+    }
+
+    @Test
+    @DisplayName("단일 댓글 조회 SQL 문 수")
+    public void 단일댓글조회() throws Exception {
+        mockMvc.perform(get("/api/posts/{postId}/comments/{commentId}", post.getId(), comment.getId()))
+                .andExpect(status().isOk())
+                .andExpect(withinQueryBudget(3));
+    }
+
+    @Test
+    @DisplayName("댓글 수정 SQL 문 수")
+    public void 댓글수정() throws Exception {
+        mockMvc.perform(authenticated(put("/api/posts/{postId}/comments/{commentId}", post.getId(), comment.getId()), "viewer123456")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createCommentRequest())))
+                .andExpect(status().isOk())
+                .andExpect(withinQueryBudget(4));
+    }
+
+    @Test
+    @DisplayName("댓글 좋아요 SQL 문 수")
+    public void 댓글좋아요() throws Exception {
+        mockMvc.perform(authenticated(post("/api/posts/{postId}/comments/{commentId}/like", post.getId(), comment.getId()), "writer123456"))
+                .andExpect(status().isOk())
+                .andExpect(withinQueryBudget(6));
+    }
+
+    @Test
+    @DisplayName("댓글 삭제 SQL 문 수")
+    public void 댓글삭제() throws Exception {
+        mockMvc.perform(authenticated(delete("/api/posts/{postId}/comments/{commentId}", post.getId(), comment.getId()), "viewer123456"))
+                .andExpect(status().isOk())
+                .andExpect(withinQueryBudget(6));
+    }
+
+    private MockHttpServletRequestBuilder authenticated(MockHttpServletRequestBuilder request, String userId) {
+        return request.header(JwtUtil.AUTHORIZATION_HEADER, jwtUtil.createAccessToken(userId));
+    }
+
+    private User createUser(String userId) {
+        return User.builder()
+                .userId(userId)
+                .password("encodedPassword")
+                .name("test")
+                .email(userId + "@test.com")
+                .userType(UserType.ACTIVE)
+                .introduce("test")
+                .build();
+    }
+
+    private PostRequestDTO createPostRequest() {
+        PostRequestDTO requestDTO = new PostRequestDTO();
+        requestDTO.setTitle("제목");
+        requestDTO.setContents("내용");
+        return requestDTO;
+    }
+
+    private CommentRequestDTO createCommentRequest() {
+        CommentRequestDTO requestDTO = new CommentRequestDTO();
+        requestDTO.setContents("댓글");
+        return requestDTO;
+    }
+}
@@ -20,6 +20,7 @@ public class PostResponseDTOTest {
         PostResponseDTO responseDTO = new PostResponseDTO(post);
 
         //when
+        assertThat(responseDTO.getId()).isEqualTo(post.getId());
         assertThat(responseDTO.getUserId()).isEqualTo(post.getUser().getUserId());
         assertThat(responseDTO.getTitle()).isEqualTo(post.getTitle());
         assertThat(responseDTO.getContents()).isEqualTo(post.getContents());
@@ -6,6 +6,8 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class CommentTest {
 
@@ -57,4 +59,39 @@ public class CommentTest {
         //then
         assertEquals(comment.getLikes(), 10L);
     }
+
+    @Test
+    @DisplayName("답글 생성 시 단계와 형제 순번 발급")
+    public void testReply() {
+        //when
+        Comment first = Comment.builder().post(post).user(user).contents("답글1").parent(comment).build();
+        Comment second = Comment.builder().post(post).user(user).contents("답글2").parent(comment).build();
+        Comment nested = Comment.builder().post(post).user(user).contents("답글3").parent(first).build();
+
+        //then
+        assertEquals(comment.getDepth(), 0);
+        assertEquals(first.getDepth(), 1);
+        assertEquals(nested.getDepth(), 2);
+        assertEquals(first.getReplyOrder(), 1);
+        assertEquals(second.getReplyOrder(), 2);
+        assertEquals(comment.getLastReplyOrder(), 2);
+        assertTrue(comment.hasReplies());
+        assertFalse(nested.hasReplies());
+    }
+
+    @Test
+    @DisplayName("답글 단계 제한")
+    public void testReplyDepthLimit() {
+        //given
+        Comment parent = comment;
+
+        //when
+        for (int depth = 1; depth <= Comment.MAX_DEPTH; depth++) {
+            parent = Comment.builder().post(post).user(user).contents("답글").parent(parent).build();
+        }
+
+        //then
+        assertEquals(parent.getDepth(), Comment.MAX_DEPTH);
+        assertFalse(parent.canReply());
+    }
 }
@@ -49,6 +49,22 @@ public class PostTest {
         assertEquals(post.getContents(), "뉴내용");
     }
 
+    @Test
+    @DisplayName("post 본문 앞부분과 길이 저장")
+    public void testPreview(){
+        //given
+        PostRequestDTO requestDTO = new PostRequestDTO();
+        requestDTO.setTitle("제목");
+        requestDTO.setContents("😀".repeat(150));
+
+        //when
+        post.update(requestDTO);
+
+        //then
+        assertEquals(post.getContentsLength(), 150);
+        assertEquals(post.getPreview(), "😀".repeat(Post.PREVIEW_LENGTH));
+    }
+
     @Test
     @DisplayName("post 좋아요 수 업데이트")
     public void testUpdatePostLike(){
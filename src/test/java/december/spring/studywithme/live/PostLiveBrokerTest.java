@@ -0,0 +1,207 @@
+package december.spring.studywithme.live;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import december.spring.studywithme.controller.PostController;
+import december.spring.studywithme.event.PostLiveEvent;
+import december.spring.studywithme.service.PostExportService;
+import december.spring.studywithme.service.PostSearchService;
+import december.spring.studywithme.service.PostService;
+import december.spring.studywithme.service.TrendingPostService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+public class PostLiveBrokerTest {
+    private static final int QUEUE_CAPACITY = 4;
+    private static final Duration SEND_TIMEOUT = Duration.ofMillis(50);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ThreadPoolExecutor executor = (ThreadPoolExecutor) Executors.newFixedThreadPool(1);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private PostLiveBroker createBroker(boolean relayEnabled) {
+        return new PostLiveBroker(new ObjectMapper(), meterRegistry, Duration.ofMinutes(1), QUEUE_CAPACITY, SEND_TIMEOUT, 2,
+                relayEnabled, executor);
+    }
+
+    private MockMvc createMockMvc(PostLiveBroker postLiveBroker) {
+        PostController postController = new PostController(mock(PostService.class), mock(TrendingPostService.class),
+                mock(PostSearchService.class), mock(PostExportService.class), postLiveBroker);
+        return MockMvcBuilders.standaloneSetup(postController).build();
+    }
+
+    private MvcResult subscribe(MockMvc mockMvc, Long postId) throws Exception {
+        return mockMvc.perform(get("/api/posts/{id}/live", postId))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+
+    // 전송 스레드가 하나이므로 앞서 맡긴 전송이 모두 끝날 때까지 기다린다 (막힌 전송이 있으면 추가된 스레드에서 실행)
+    private void awaitSent() throws Exception {
+        executor.submit(() -> { }).get();
+    }
+
+    @Test
+    @DisplayName("커밋된 이벤트는 해당 게시글의 구독자에게만 전달")
+    public void 이벤트전달() throws Exception {
+        //given
+        PostLiveBroker postLiveBroker = createBroker(false);
+        MockMvc mockMvc = createMockMvc(postLiveBroker);
+        MvcResult subscriber = subscribe(mockMvc, 1L);
+        MvcResult otherSubscriber = subscribe(mockMvc, 2L);
+
+        //when
+        postLiveBroker.handlePostLive(PostLiveEvent.postLikesChanged(1L, 3L));
+        awaitSent();
+
+        //then
+        assertThat(subscriber.getResponse().getContentAsString())
+                .contains(":connected")
+                .contains("event:post-likes\ndata:{\"id\":1,\"likes\":3}\n\n");
+        assertThat(otherSubscriber.getResponse().getContentAsString()).doesNotContain("post-likes");
+        assertThat(postLiveBroker.countSubscribers(1L)).isEqualTo(1);
+        assertThat(meterRegistry.get("post.live.subscribers").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("heartbeat 는 모든 구독자에게 전달")
+    public void heartbeat() throws Exception {
+        //given
+        PostLiveBroker postLiveBroker = createBroker(false);
+        MockMvc mockMvc = createMockMvc(postLiveBroker);
+        MvcResult subscriber = subscribe(mockMvc, 1L);
+
+        //when
+        postLiveBroker.heartbeat();
+        awaitSent();
+
+        //then
+        assertThat(subscriber.getResponse().getContentAsString()).contains(":heartbeat\n\n");
+    }
+
+    @Test
+    @DisplayName("전송 대기 큐가 가득 찬 느린 구독자는 연결을 끊음")
+    public void 느린구독자종료() throws Exception {
+        //given
+        PostLiveBroker postLiveBroker = createBroker(false);
+        CountDownLatch sending = new CountDownLatch(1);
+        executor.execute(() -> {
+            try {
+                sending.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        postLiveBroker.subscribe(1L);
+
+        //when (연결 이벤트 1건 + 큐 크기만큼 추가)
+        for (int i = 0; i < QUEUE_CAPACITY; i++) {
+            postLiveBroker.dispatch(1L, PostLiveEvent.POST_LIKES_CHANGED, "{}");
+        }
+        sending.countDown();
+
+        //then
+        assertThat(postLiveBroker.countSubscribers(1L)).isZero();
+        assertThat(meterRegistry.get("post.live.evictions").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("post.live.subscribers").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("전송이 막힌 구독자는 연결을 끊고, 추가한 전송 스레드로 다른 구독자에게 계속 전달")
+    public void 전송지연구독자종료() throws Exception {
+        //given
+        PostLiveBroker postLiveBroker = createBroker(false);
+        MockMvc mockMvc = createMockMvc(postLiveBroker);
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch released = new CountDownLatch(1);
+        StalledEmitter stalledEmitter = new StalledEmitter(sending, released);
+        postLiveBroker.subscribe(1L, stalledEmitter);
+        sending.await();
+        MvcResult subscriber = subscribe(mockMvc, 2L);
+
+        //when
+        Thread.sleep(SEND_TIMEOUT.toMillis() * 2);
+        postLiveBroker.checkStalledSends();
+        awaitSent();
+
+        //then
+        assertThat(postLiveBroker.countSubscribers(1L)).isZero();
+        assertThat(meterRegistry.get("post.live.evictions").counter().count()).isEqualTo(1);
+        assertThat(subscriber.getResponse().getContentAsString()).contains(":connected");
+        assertThat(executor.getCorePoolSize()).isEqualTo(2);
+
+        //when (막힌 전송이 끝나면 추가한 전송 스레드를 되돌리고 연결을 완료)
+        released.countDown();
+        stalledEmitter.completed.await();
+
+        //then
+        assertThat(executor.getCorePoolSize()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("relay 를 사용하면 커밋된 이벤트를 직접 전달하지 않고 relay 로 받은 이벤트만 전달")
+    public void relay사용() throws Exception {
+        //given
+        PostLiveBroker postLiveBroker = createBroker(true);
+        MockMvc mockMvc = createMockMvc(postLiveBroker);
+        MvcResult subscriber = subscribe(mockMvc, 1L);
+
+        //when
+        postLiveBroker.handlePostLive(PostLiveEvent.postLikesChanged(1L, 3L));
+        postLiveBroker.dispatch(1L, PostLiveEvent.COMMENT_LIKES_CHANGED, "{\"id\":7,\"likes\":1}");
+        awaitSent();
+
+        //then
+        assertThat(subscriber.getResponse().getContentAsString())
+                .doesNotContain("post-likes")
+                .contains("event:comment-likes\ndata:{\"id\":7,\"likes\":1}");
+    }
+
+    // 받지 않는 클라이언트처럼 released 전까지 전송이 끝나지 않는 연결
+    private static class StalledEmitter extends SseEmitter {
+        private final CountDownLatch sending;
+        private final CountDownLatch released;
+        private final CountDownLatch completed = new CountDownLatch(1);
+
+        StalledEmitter(CountDownLatch sending, CountDownLatch released) {
+            this.sending = sending;
+            this.released = released;
+        }
+
+        @Override
+        public void send(Set<DataWithMediaType> items) throws IOException {
+            sending.countDown();
+            try {
+                released.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void complete() {
+            completed.countDown();
+        }
+    }
+}
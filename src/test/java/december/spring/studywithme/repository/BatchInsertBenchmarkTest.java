@@ -0,0 +1,116 @@
+package december.spring.studywithme.repository;
+
+import december.spring.studywithme.config.JpaConfig;
+import december.spring.studywithme.entity.Comment;
+import december.spring.studywithme.entity.Post;
+import december.spring.studywithme.entity.User;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 배치 insert 처리량 비교 (gradle benchmark 로 실행)
+ * 같은 댓글 ROWS 건을 JDBC 배치 없이(IDENTITY 와 같은 행 단위 전송) 저장할 때와 batch_size 단위로 저장할 때의
+ * 소요 시간과 JDBC 문 준비 횟수를 비교한다. H2 메모리 DB 는 네트워크 왕복이 없으므로 실제 MySQL 에서는 차이가 더 크다.
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:benchmark;MODE=MySQL;NON_KEYWORDS=USER",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.show_sql=false",
+        "spring.jpa.properties.hibernate.format_sql=false",
+        "spring.jpa.properties.hibernate.use_sql_comments=false",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=" + BatchInsertBenchmarkTest.BATCH_SIZE,
+        "spring.jpa.properties.hibernate.order_inserts=true",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(JpaConfig.class)
+public class BatchInsertBenchmarkTest {
+    static final int BATCH_SIZE = 50;
+    private static final int ROWS = 5000;
+    private static final int ROUNDS = 3;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("insert into user (id, user_id, password, name, email, user_type) " +
+                "values (1, 'test123456789', 'encodedPassword', 'test', 'test@test.com', 'ACTIVE')");
+        jdbcTemplate.update("insert into post_body (id, contents) values (1, '내용')");
+        jdbcTemplate.update("insert into post (id, user_id, body_id, title, preview, contents_length, likes) " +
+                "values (1, 1, 1, '제목', '내용', 2, 0)");
+    }
+
+    @Test
+    @DisplayName("댓글 배치 insert 처리량")
+    public void 댓글배치저장() {
+        // 첫 회차는 워밍업으로 사용하고 버린다
+        for (int round = 0; round <= ROUNDS; round++) {
+            Result single = insertComments(1);
+            Result batched = insertComments(BATCH_SIZE);
+
+            if (round > 0) {
+                System.out.printf("[benchmark] round %d : 행 단위 %,d rows/s (%d statements), 배치 %,d rows/s (%d statements)%n",
+                        round, single.rowsPerSecond(), single.statements(), batched.rowsPerSecond(), batched.statements());
+            }
+
+            // 발급 테이블 조회 / 갱신을 제외하면 배치 크기만큼 insert 를 묶어 보낸다
+            assertThat(single.statements()).isGreaterThanOrEqualTo(ROWS);
+            assertThat(batched.statements()).isLessThanOrEqualTo(ROWS / BATCH_SIZE * 3);
+        }
+    }
+
+    private Result insertComments(int batchSize) {
+        Session session = entityManager.unwrap(Session.class);
+        session.setJdbcBatchSize(batchSize);
+        Statistics statistics = session.getSessionFactory().getStatistics();
+        statistics.clear();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ROWS; i++) {
+            Comment comment = Comment.builder()
+                    .post(entityManager.getReference(Post.class, 1L))
+                    .user(entityManager.getReference(User.class, 1L))
+                    .contents("댓글" + i)
+                    .build();
+            entityManager.persist(comment);
+
+            if ((i + 1) % BATCH_SIZE == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        long elapsed = System.nanoTime() - start;
+
+        // 경로는 ID 발급 직후 insert 값에 포함되므로 댓글마다 update 가 따로 실행되지 않는다
+        assertThat(statistics.getEntityUpdateCount()).isZero();
+        assertThat(jdbcTemplate.queryForObject("select count(*) from comment where path = ''", Long.class)).isZero();
+        return new Result(elapsed, statistics.getPrepareStatementCount());
+    }
+
+    private record Result(long elapsedNanos, long statements) {
+        long rowsPerSecond() {
+            return ROWS * 1_000_000_000L / elapsedNanos;
+        }
+    }
+}
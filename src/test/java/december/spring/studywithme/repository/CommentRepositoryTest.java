@@ -0,0 +1,162 @@
+package december.spring.studywithme.repository;
+
+import december.spring.studywithme.config.JpaConfig;
+import december.spring.studywithme.dto.CommentResponseDTO;
+import december.spring.studywithme.entity.Comment;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlConfig;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:comment;MODE=MySQL;NON_KEYWORDS=USER",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password="
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(JpaConfig.class)
+public class CommentRepositoryTest {
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("insert into user (id, user_id, password, name, email, user_type) " +
+                "values (1, 'test123456789', 'encodedPassword', 'test', 'test@test.com', 'ACTIVE')");
+
+        for (long postId = 1; postId <= 2; postId++) {
+            jdbcTemplate.update("insert into post_body (id, contents) values (?, '내용')", postId);
+            jdbcTemplate.update("insert into post (id, user_id, body_id, title, preview, contents_length, likes) " +
+                    "values (?, 1, ?, '제목', '내용', 2, 0)", postId, postId);
+        }
+
+        // 게시글 1 : 최상위 댓글 1 ~ 25, 댓글 1 의 답글 101 ~ 105, 답글 101 의 답글 201
+        // 게시글 2 : 최상위 댓글 26
+        for (long id = 1; id <= 26; id++) {
+            insertComment(id, id <= 25 ? 1L : 2L, null, path(id), 0, 0, id == 1 ? 5 : 0);
+        }
+        for (long id = 101; id <= 105; id++) {
+            insertComment(id, 1L, 1L, path(1) + path(id), 1, (int) (id - 100), id == 101 ? 1 : 0);
+        }
+        insertComment(201L, 1L, 101L, path(1) + path(101) + path(201), 2, 1, 0);
+    }
+
+    @Test
+    @DisplayName("전체 댓글 조회는 최상위 댓글마다 앞쪽 답글만 스레드 순서로 조회")
+    public void 스레드조회() {
+        List<CommentResponseDTO> threads = commentRepository.findThreadsByCursor(1L, "", 3, PageRequest.ofSize(100));
+
+        assertThat(threads).hasSize(25 + 3);
+        assertThat(threads).extracting(CommentResponseDTO::getId).startsWith(1L, 101L, 102L, 103L, 2L, 3L);
+        assertThat(threads.get(1).getParentId()).isEqualTo(1L);
+        assertThat(threads.get(1).getDepth()).isEqualTo(1);
+        assertThat(threads.get(0).getUserId()).isEqualTo("test123456789");
+    }
+
+    @Test
+    @DisplayName("전체 댓글 커서 조회는 커서 위치 다음부터 조회")
+    public void 스레드커서조회() {
+        List<CommentResponseDTO> threads = commentRepository.findThreadsByCursor(1L, path(1) + path(103), 3, PageRequest.ofSize(2));
+
+        assertThat(threads).extracting(CommentResponseDTO::getId).containsExactly(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("답글 스레드 조회는 하위 스레드 전체를 단계와 관계없이 스레드 순서로 조회")
+    public void 하위스레드조회() {
+        String path = commentRepository.findPathByPostIdAndId(1L, 1L).orElseThrow();
+
+        List<CommentResponseDTO> replies = commentRepository.findSubtreeByCursor(1L, path, path, PageRequest.ofSize(100));
+
+        assertThat(replies).extracting(CommentResponseDTO::getId).containsExactly(101L, 201L, 102L, 103L, 104L, 105L);
+    }
+
+    @Test
+    @DisplayName("하위 스레드 삭제는 댓글과 모든 답글을 삭제")
+    public void 하위스레드삭제() {
+        commentRepository.deleteLikesInSubtree(1L, path(1) + path(101));
+        int deleted = commentRepository.deleteSubtree(1L, path(1) + path(101));
+
+        assertThat(deleted).isEqualTo(2);
+        assertThat(commentRepository.findById(102L)).isPresent();
+    }
+
+    @Test
+    // 직접 ID 를 지정해 추가한 댓글과 겹치지 않도록 ID 발급 값을 올려 둔다
+    @Sql(statements = "merge into id_sequence key (sequence_name) values ('comment', 1000)",
+            config = @SqlConfig(transactionMode = SqlConfig.TransactionMode.ISOLATED))
+    @DisplayName("댓글 저장 시 발급된 ID 로 경로를 완성하여 insert 에 함께 저장")
+    public void 저장시경로완성() {
+        Comment parent = commentRepository.findById(1L).orElseThrow();
+
+        Comment reply = commentRepository.saveAndFlush(Comment.builder()
+                .post(parent.getPost())
+                .user(parent.getUser())
+                .contents("답글")
+                .parent(parent)
+                .build());
+
+        assertThat(reply.getId()).isGreaterThan(201L);
+        assertThat(commentRepository.findPathByPostIdAndId(1L, reply.getId())).contains(path(1) + path(reply.getId()));
+    }
+
+    @Test
+    @DisplayName("경로가 없는 기존 댓글은 최상위 댓글 경로로 채움")
+    public void 기존댓글경로채움() {
+        insertComment(300L, 2L, null, "", 0, 0, 0);
+
+        commentRepository.fillMissingPaths();
+
+        assertThat(commentRepository.findPathByPostIdAndId(2L, 300L)).contains(path(300));
+    }
+
+    @Test
+    @DisplayName("댓글 좋아요 수는 원자적으로 증감하고, 보정은 실제 좋아요 수와 다른 댓글만 갱신")
+    public void 좋아요수증감보정() {
+        commentRepository.increaseLikes(1L);
+        commentRepository.increaseLikes(2L);
+        commentRepository.decreaseLikes(3L);
+        jdbcTemplate.update("insert into comment_like (user_id, comment_id, is_like) values (1, 1, true)");
+
+        int repaired = commentRepository.repairLikes(0L, commentRepository.findMaxId());
+
+        assertThat(repaired).isEqualTo(1);
+        assertThat(commentRepository.findLikesById(1L)).isEqualTo(1L);
+        assertThat(commentRepository.findLikesById(2L)).isZero();
+        assertThat(commentRepository.findLikesById(3L)).isZero();
+    }
+
+    @Test
+    @DisplayName("전체 댓글 조회는 (post_id, path) 인덱스를 사용")
+    public void 스레드조회인덱스() {
+        String plan = jdbcTemplate.queryForObject("explain select id from comment where post_id = 1 and path > '0000000010' " +
+                "order by path limit 21", String.class);
+
+        assertThat(plan).containsIgnoringCase("idx_comment_post_id_path");
+    }
+
+    private void insertComment(Long id, Long postId, Long parentId, String path, int depth, int replyOrder, int lastReplyOrder) {
+        jdbcTemplate.update("insert into comment (id, post_id, user_id, contents, likes, parent_id, path, depth, reply_order, last_reply_order) " +
+                "values (?, ?, 1, ?, 0, ?, ?, ?, ?, ?)", id, postId, "댓글" + id, parentId, path, depth, replyOrder, lastReplyOrder);
+    }
+
+    private String path(long id) {
+        return String.format("%010d", id);
+    }
+}
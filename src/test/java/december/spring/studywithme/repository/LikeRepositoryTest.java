@@ -0,0 +1,111 @@
+package december.spring.studywithme.repository;
+
+import december.spring.studywithme.dto.LikerDTO;
+import december.spring.studywithme.entity.PostLike;
+import december.spring.studywithme.entity.PostLikeId;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:like;MODE=MySQL;NON_KEYWORDS=USER",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password="
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class LikeRepositoryTest {
+
+    @Autowired
+    private PostLikeRepository postLikeRepository;
+
+    @Autowired
+    private CommentLikeRepository commentLikeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("insert into user (id, user_id, password, name, email, user_type) " +
+                "values (1, 'test123456789', 'encodedPassword', 'test', 'test@test.com', 'ACTIVE')");
+        jdbcTemplate.update("insert into post_body (id, contents) values (1, '내용')");
+        jdbcTemplate.update("insert into post (id, user_id, body_id, title, preview, contents_length, likes) " +
+                "values (1, 1, 1, '제목', '내용', 2, 0)");
+        jdbcTemplate.update("insert into comment (id, post_id, user_id, contents, likes) values (1, 1, 1, '댓글', 0)");
+    }
+
+    @Test
+    @DisplayName("게시글 좋아요 upsert 는 처음에는 등록하고 이후에는 같은 행을 토글")
+    public void 게시글좋아요토글() {
+        int inserted = postLikeRepository.toggle(1L, 1L);
+        int toggled = postLikeRepository.toggle(1L, 1L);
+
+        assertThat(inserted).isEqualTo(1);
+        assertThat(toggled).isEqualTo(2);
+        assertThat(postLikeRepository.findIsLike(1L, 1L)).isFalse();
+        assertThat(postLikeRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("댓글 좋아요 upsert 는 처음에는 등록하고 이후에는 같은 행을 토글")
+    public void 댓글좋아요토글() {
+        for (int i = 0; i < 3; i++) {
+            commentLikeRepository.toggle(1L, 1L);
+        }
+
+        assertThat(commentLikeRepository.findIsLike(1L, 1L)).isTrue();
+        assertThat(commentLikeRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("여러 게시글의 좋아요를 누른 사용자를 한 번에 조회 (취소한 좋아요 제외)")
+    public void 좋아요사용자조회() {
+        jdbcTemplate.update("insert into user (id, user_id, password, name, email, user_type) " +
+                "values (2, 'test223456789', 'encodedPassword', 'test', 'test2@test.com', 'ACTIVE')");
+        jdbcTemplate.update("insert into post_like (user_id, post_id, is_like) values (1, 1, true)");
+        jdbcTemplate.update("insert into post_like (user_id, post_id, is_like) values (2, 1, false)");
+
+        List<LikerDTO> likers = postLikeRepository.findLikersByPostIdIn(List.of(1L, 2L));
+
+        assertThat(likers).extracting(LikerDTO::getTargetId, LikerDTO::getUserId).containsExactly(tuple(1L, 1L));
+    }
+
+    @Test
+    @DisplayName("좋아요는 (게시글, 사용자) 복합 키로 조회하며 사용자 / 게시글을 함께 불러오지 않음")
+    public void 좋아요복합키조회() {
+        postLikeRepository.toggle(1L, 1L);
+        entityManager.clear();
+
+        PostLike postLike = postLikeRepository.findById(new PostLikeId(1L, 1L)).orElseThrow();
+
+        assertThat(postLike.isLike()).isTrue();
+        assertThat(Hibernate.isInitialized(postLike.getUser())).isFalse();
+        assertThat(Hibernate.isInitialized(postLike.getPost())).isFalse();
+    }
+
+    @Test
+    @DisplayName("같은 사용자와 게시글의 좋아요 행은 중복으로 추가할 수 없음")
+    public void 중복좋아요방지() {
+        jdbcTemplate.update("insert into post_like (user_id, post_id, is_like) values (1, 1, true)");
+
+        assertThatThrownBy(() -> jdbcTemplate.update("insert into post_like (user_id, post_id, is_like) values (1, 1, true)"))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+}
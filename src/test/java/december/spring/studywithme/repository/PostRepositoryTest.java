@@ -0,0 +1,197 @@
+package december.spring.studywithme.repository;
+
+import december.spring.studywithme.dto.PostPreviewResponseDTO;
+import december.spring.studywithme.dto.PostResponseDTO;
+import december.spring.studywithme.entity.Post;
+import december.spring.studywithme.entity.PostSortType;
+import december.spring.studywithme.entity.User;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlConfig;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:post;MODE=MySQL;NON_KEYWORDS=USER",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password="
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class PostRepositoryTest {
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostDailyCountRepository postDailyCountRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("insert into user (id, user_id, password, name, email, user_type) " +
+                "values (1, 'test123456789', 'encodedPassword', 'test', 'test@test.com', 'ACTIVE')");
+
+        LocalDateTime createdAt = LocalDateTime.of(2024, 6, 1, 0, 0);
+        for (int i = 1; i <= 500; i++) {
+            jdbcTemplate.update("insert into post_body (id, contents) values (?, '내용')", i);
+            jdbcTemplate.update("insert into post (id, user_id, body_id, title, preview, contents_length, likes, created_at, modified_at) " +
+                    "values (?, 1, ?, ?, '내용', 2, ?, ?, ?)", i, i, "제목" + i, i % 7, createdAt.plusHours(i), createdAt.plusHours(i));
+        }
+    }
+
+    @Test
+    @DisplayName("최신순 정렬은 (created_at, id) 인덱스를 사용")
+    public void 최신순정렬인덱스() {
+        String plan = explain("select id from post where created_at >= '2024-06-03' and created_at < '2024-06-10' " +
+                "order by created_at desc, id desc limit 10");
+
+        assertThat(plan).containsIgnoringCase("idx_post_created_at_id");
+    }
+
+    @Test
+    @DisplayName("좋아요순 정렬은 (likes, id) 인덱스를 사용")
+    public void 좋아요순정렬인덱스() {
+        String plan = explain("select id from post order by likes desc, id desc limit 10");
+
+        assertThat(plan).containsIgnoringCase("idx_post_likes_id");
+    }
+
+    @Test
+    @DisplayName("게시글 목록 조회는 작성자와 조인하여 한 번에 조회")
+    public void 게시글목록조회() {
+        Slice<PostPreviewResponseDTO> postSlice = postRepository.findPostSlice(PageRequest.of(0, 10, PostSortType.LIKES.toSort()));
+
+        assertThat(postSlice.getContent()).hasSize(10);
+        assertThat(postSlice.hasNext()).isTrue();
+        assertThat(postSlice.getContent().get(0).getUserId()).isEqualTo("test123456789");
+        assertThat(postSlice.getContent().get(0).getLikes()).isEqualTo(6L);
+        assertThat(postSlice.getContent().get(0).getCommentCount()).isZero();
+    }
+
+    @Test
+    // 직접 ID 를 지정해 추가한 게시글과 겹치지 않도록 ID 발급 값을 올려 둔다
+    @Sql(statements = "merge into id_sequence key (sequence_name) values ('post', 1000), ('post_body', 1000)",
+            config = @SqlConfig(transactionMode = SqlConfig.TransactionMode.ISOLATED))
+    @DisplayName("게시글 목록은 본문 테이블 없이 앞부분과 길이만 조회하고, 단일 조회는 본문을 함께 조회")
+    public void 게시글목록미리보기() {
+        Post post = postRepository.saveAndFlush(Post.builder()
+                .user(entityManager.getReference(User.class, 1L))
+                .title("긴 게시글")
+                .contents("가".repeat(5000))
+                .build());
+        entityManager.clear();
+
+        PostPreviewResponseDTO preview = postRepository.findPostPreviewsByIdIn(List.of(post.getId())).get(0);
+        assertThat(preview.getPreview()).hasSize(Post.PREVIEW_LENGTH);
+        assertThat(preview.getContentsLength()).isEqualTo(5000);
+        assertThat(postRepository.findPostResponseById(post.getId()).get().getContents()).hasSize(5000);
+    }
+
+    @Test
+    @DisplayName("전체 내보내기 스트림은 ID 순으로 모든 게시글 조회")
+    public void 전체내보내기스트림() {
+        try (Stream<PostResponseDTO> postStream = postRepository.streamAllPostResponses()) {
+            List<Long> ids = postStream.map(PostResponseDTO::getId).toList();
+
+            assertThat(ids).hasSize(500).isSorted();
+        }
+    }
+
+    @Test
+    @DisplayName("댓글 수는 원자적으로 증감하고 0 미만으로 내려가지 않음")
+    public void 댓글수증감() {
+        postRepository.increaseCommentCount(1L);
+        postRepository.increaseCommentCount(1L);
+        postRepository.decreaseCommentCount(1L, 1);
+        postRepository.decreaseCommentCount(2L, 1);
+
+        assertThat(findCommentCount(1L)).isEqualTo(1L);
+        assertThat(findCommentCount(2L)).isZero();
+    }
+
+    @Test
+    @DisplayName("댓글 수 보정은 실제 댓글 수와 다른 게시글만 구간 단위로 갱신")
+    public void 댓글수보정() {
+        for (int i = 1; i <= 3; i++) {
+            jdbcTemplate.update("insert into comment (id, post_id, user_id, contents, likes) values (?, 3, 1, '댓글', 0)", i);
+        }
+        jdbcTemplate.update("update post set comment_count = 9 where id = 5");
+
+        int repaired = postRepository.repairCommentCounts(0L, 250L) + postRepository.repairCommentCounts(250L, 500L);
+
+        assertThat(repaired).isEqualTo(2);
+        assertThat(postRepository.findMaxId()).isEqualTo(500L);
+        assertThat(findCommentCount(3L)).isEqualTo(3L);
+        assertThat(findCommentCount(5L)).isZero();
+    }
+
+    @Test
+    @DisplayName("좋아요 수는 원자적으로 증감하고 0 미만으로 내려가지 않음")
+    public void 좋아요수증감() {
+        postRepository.increaseLikes(7L);
+        postRepository.increaseLikes(7L);
+        postRepository.decreaseLikes(7L);
+        postRepository.decreaseLikes(14L);
+
+        assertThat(postRepository.findLikesById(7L)).isEqualTo(1L);
+        assertThat(postRepository.findLikesById(14L)).isZero();
+    }
+
+    @Test
+    @DisplayName("좋아요 수 보정은 취소된 좋아요를 제외한 실제 좋아요 수로 구간 안의 게시글만 갱신")
+    public void 좋아요수보정() {
+        jdbcTemplate.update("insert into post_like (user_id, post_id, is_like) values (1, 7, true)");
+        jdbcTemplate.update("insert into post_like (user_id, post_id, is_like) values (1, 8, false)");
+
+        int repaired = postRepository.repairLikes(0L, 10L);
+
+        // 게시글 1 ~ 10 중 좋아요 수가 0 이 아닌 9건과, 좋아요가 있는 게시글 7
+        assertThat(repaired).isEqualTo(10);
+        assertThat(postRepository.findLikesById(7L)).isEqualTo(1L);
+        assertThat(postRepository.findLikesById(8L)).isZero();
+        assertThat(postRepository.findLikesById(11L)).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("일자별 게시글 수 재계산은 이미 있는 일자를 게시글 테이블의 값으로 덮어씀")
+    public void 일자별게시글수재계산() {
+        // 재계산 전에 다른 서버가 같은 일자의 게시글 수를 먼저 채운 경우
+        jdbcTemplate.update("insert into post_daily_count (post_date, post_count) values ('2024-06-01', 1)");
+
+        postDailyCountRepository.rebuildCounts();
+        postDailyCountRepository.rebuildCounts();
+
+        // 2024-06-01 01:00 ~ 23:00 에 등록된 게시글 23건
+        assertThat(postDailyCountRepository.sumCountByPeriod(LocalDate.of(2024, 6, 1), LocalDate.of(2024, 6, 2))).isEqualTo(23L);
+        assertThat(postDailyCountRepository.sumCountByPeriod(LocalDate.of(1000, 1, 1), LocalDate.of(9999, 12, 31))).isEqualTo(500L);
+    }
+
+    private Long findCommentCount(Long id) {
+        return jdbcTemplate.queryForObject("select comment_count from post where id = ?", Long.class, id);
+    }
+
+    private String explain(String sql) {
+        entityManager.flush();
+        return jdbcTemplate.queryForObject("explain " + sql, String.class);
+    }
+}
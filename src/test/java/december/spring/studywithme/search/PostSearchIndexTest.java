@@ -0,0 +1,122 @@
+package december.spring.studywithme.search;
+
+import december.spring.studywithme.dto.PostResponseDTO;
+import december.spring.studywithme.repository.PostRepository;
+import december.spring.studywithme.service.PostCountService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class PostSearchIndexTest {
+    private static final LocalDateTime MODIFIED_AT = LocalDateTime.of(2024, 6, 16, 12, 0);
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private PostCountService postCountService;
+
+    @TempDir
+    Path indexPath;
+
+    private PostSearchIndex postSearchIndex;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (postSearchIndex != null) {
+            postSearchIndex.close();
+        }
+    }
+
+    private PostResponseDTO post(Long id, String title, String contents) {
+        return new PostResponseDTO(id, "test123456789", title, contents, 0L, MODIFIED_AT, MODIFIED_AT);
+    }
+
+    private void buildIndex() {
+        postSearchIndex = new PostSearchIndex(postRepository, postCountService, indexPath);
+        when(postRepository.findPostsModifiedSince(any(), eq(0L), any())).thenReturn(List.of(
+                post(1L, "자바 스터디 모집", "매주 토요일 스프링 공부"),
+                post(2L, "알고리즘 모임", "자바로 백준 문제 풀이"),
+                post(3L, "영어 회화", "주말 카페 모임")));
+        postSearchIndex.catchUp();
+    }
+
+    @Test
+    @DisplayName("한글 부분 검색 및 제목 가중치 테스트")
+    public void 한글부분검색() {
+        //given
+        buildIndex();
+
+        //when
+        Page<Long> result = postSearchIndex.search("자바", PageRequest.of(0, 10));
+
+        //then (제목에 검색어가 있는 게시글이 먼저)
+        assertThat(result.getContent()).containsExactly(1L, 2L);
+        assertThat(result.getTotalElements()).isEqualTo(2);
+        assertThat(postSearchIndex.search("스터", PageRequest.of(0, 10)).getContent()).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("검색 결과 페이지 나누기 테스트")
+    public void 검색페이지() {
+        //given
+        buildIndex();
+
+        //when
+        Page<Long> result = postSearchIndex.search("모임", PageRequest.of(1, 1));
+
+        //then
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("삭제된 게시글 색인 제거 테스트")
+    public void 삭제게시글제거() {
+        //given
+        buildIndex();
+        when(postRepository.findPostResponseById(1L)).thenReturn(Optional.empty());
+
+        //when
+        postSearchIndex.reindex(1L);
+
+        //then
+        assertThat(postSearchIndex.search("자바", PageRequest.of(0, 10)).getContent()).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("재시작 시 마지막 커밋 이후 수정된 게시글만 색인 테스트")
+    public void 재시작따라잡기() throws Exception {
+        //given
+        buildIndex();
+        postSearchIndex.close();
+        when(postCountService.countPosts(null, null)).thenReturn(3L);
+
+        //when
+        postSearchIndex = new PostSearchIndex(postRepository, postCountService, indexPath);
+        postSearchIndex.catchUp();
+
+        //then
+        verify(postRepository, times(1)).findPostsModifiedSince(eq(LocalDateTime.of(1970, 1, 1, 0, 0)), anyLong(), any());
+        verify(postRepository, times(1)).findPostsModifiedSince(eq(MODIFIED_AT), anyLong(), any());
+        assertThat(postSearchIndex.search("회화", PageRequest.of(0, 10)).getContent()).containsExactly(3L);
+    }
+}
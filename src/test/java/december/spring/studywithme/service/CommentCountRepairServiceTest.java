@@ -0,0 +1,110 @@
+package december.spring.studywithme.service;
+
+import december.spring.studywithme.event.PostCountsRepairedEvent;
+import december.spring.studywithme.repository.JobLockRepository;
+import december.spring.studywithme.repository.PostRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CommentCountRepairServiceTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private JobLockRepository jobLockRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private CommentCountRepairService createRepairService() {
+        return new CommentCountRepairService(postRepository, jobLockRepository, eventPublisher, 100);
+    }
+
+    @Test
+    @DisplayName("시작 시 전체 게시글의 댓글 수를 구간 단위로 보정하고 완료를 표시")
+    public void 시작시보정() {
+        //given
+        CommentCountRepairService repairService = createRepairService();
+        when(jobLockRepository.acquire(eq(CommentCountRepairService.REPAIR_JOB), any())).thenReturn(true);
+        when(postRepository.findMaxId()).thenReturn(150L);
+        when(postRepository.repairCommentCounts(anyLong(), anyLong())).thenReturn(1);
+
+        //when
+        repairService.initializeCommentCounts();
+
+        //then
+        verify(postRepository).repairCommentCounts(0L, 100L);
+        verify(postRepository).repairCommentCounts(100L, 200L);
+        verify(eventPublisher).publishEvent(any(PostCountsRepairedEvent.class));
+        verify(jobLockRepository).markDone(CommentCountRepairService.INITIALIZE_JOB);
+    }
+
+    @Test
+    @DisplayName("이미 초기화를 마쳤으면 시작 시 보정하지 않음")
+    public void 초기화완료() {
+        //given
+        CommentCountRepairService repairService = createRepairService();
+        when(jobLockRepository.isDone(CommentCountRepairService.INITIALIZE_JOB)).thenReturn(true);
+
+        //when
+        repairService.initializeCommentCounts();
+
+        //then
+        verify(postRepository, never()).findMaxId();
+        verify(jobLockRepository, never()).acquire(any(), any());
+    }
+
+    @Test
+    @DisplayName("다른 서버가 보정 중이면 보정하지 않음")
+    public void 잠금실패() {
+        //given
+        CommentCountRepairService repairService = createRepairService();
+        when(jobLockRepository.acquire(eq(CommentCountRepairService.REPAIR_JOB), any())).thenReturn(false);
+
+        //when
+        repairService.scheduledRepair();
+
+        //then
+        verify(postRepository, never()).findMaxId();
+    }
+
+    @Test
+    @DisplayName("보정된 게시글이 없으면 캐시 무효화 이벤트를 발행하지 않음")
+    public void 보정없음() {
+        //given
+        CommentCountRepairService repairService = createRepairService();
+        when(jobLockRepository.acquire(eq(CommentCountRepairService.REPAIR_JOB), any())).thenReturn(true);
+        when(postRepository.findMaxId()).thenReturn(50L);
+
+        //when
+        repairService.scheduledRepair();
+
+        //then
+        verify(postRepository).repairCommentCounts(0L, 100L);
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("시작 시 보정에 실패해도 예외를 던지지 않고 완료를 표시하지 않음")
+    public void 시작시보정실패() {
+        //given
+        CommentCountRepairService repairService = createRepairService();
+        when(jobLockRepository.acquire(eq(CommentCountRepairService.REPAIR_JOB), any())).thenReturn(true);
+        when(postRepository.findMaxId()).thenThrow(new IllegalStateException("connection refused"));
+
+        //when, then
+        assertThatCode(repairService::initializeCommentCounts).doesNotThrowAnyException();
+        verify(jobLockRepository, never()).markDone(any());
+    }
+}
@@ -1,13 +1,19 @@
 package december.spring.studywithme.service;
 
+import december.spring.studywithme.dto.CommentPageResponseDTO;
 import december.spring.studywithme.dto.CommentRequestDTO;
 import december.spring.studywithme.dto.CommentResponseDTO;
+import december.spring.studywithme.dto.CommentVersionDTO;
 import december.spring.studywithme.entity.Comment;
 import december.spring.studywithme.entity.Post;
 import december.spring.studywithme.entity.User;
 import december.spring.studywithme.entity.UserType;
+import december.spring.studywithme.event.PostChangedEvent;
+import december.spring.studywithme.event.PostLiveEvent;
+import december.spring.studywithme.exception.CommentException;
 import december.spring.studywithme.exception.NoContentException;
 import december.spring.studywithme.repository.CommentRepository;
+import december.spring.studywithme.repository.PostRepository;
 import december.spring.studywithme.security.UserDetailsImpl;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,14 +21,21 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,6 +46,12 @@ public class CommentServiceTest {
     @Mock
     private PostService postService;
 
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private CommentService commentService;
 
@@ -77,36 +96,67 @@ public class CommentServiceTest {
         // Then
         assertThat(responseDTO).isNotNull();
         assertThat(responseDTO.getContents()).isEqualTo(requestDTO.getContents());
+        verify(postRepository, times(1)).increaseCommentCount(1L);
+        verify(eventPublisher, times(1)).publishEvent(any(PostChangedEvent.class));
+        verify(eventPublisher, times(1)).publishEvent(argThat((Object event) -> event instanceof PostLiveEvent liveEvent
+                && liveEvent.getName().equals(PostLiveEvent.COMMENT_CREATED) && liveEvent.getData() == responseDTO));
     }
 
     @Test
     @DisplayName("전체 댓글 조회 테스트")
     public void 전체댓글조회() {
+        //given
         userCreate();
         postCreate();
+        List<CommentResponseDTO> commentList = LongStream.rangeClosed(1, 21)
+                .mapToObj(this::topLevelComment)
+                .toList();
 
-        Comment comment1 = Comment.builder()
-                .post(post)
-                .contents("내용1")
-                .user(user)
-                .build();
-        Comment comment2 = Comment.builder()
-                .post(post)
-                .contents("내용2")
-                .user(user)
-                .build();
+        when(postService.getValidatePost(anyLong())).thenReturn(post);
+        when(commentRepository.findThreadsByCursor(eq(1L), eq(""), anyInt(), any(Pageable.class))).thenReturn(commentList);
 
-        post.setCommentList(List.of(comment1, comment2));
+        // When
+        CommentPageResponseDTO responseDTO = commentService.getAllComments(1L, null);
+
+        // Then
+        assertThat(responseDTO.getCommentList()).hasSize(20);
+        assertThat(responseDTO.getCommentList().get(0).getContents()).isEqualTo("내용1");
+        assertThat(responseDTO.getHasNext()).isTrue();
+        assertThat(responseDTO.getNextCursor()).isEqualTo("0000000020");
+    }
+
+    @Test
+    @DisplayName("댓글 마지막 페이지 조회 테스트")
+    public void 댓글마지막페이지조회() {
+        //given
+        userCreate();
+        postCreate();
+        List<CommentResponseDTO> commentList = List.of(topLevelComment(21L));
 
         when(postService.getValidatePost(anyLong())).thenReturn(post);
+        when(commentRepository.findThreadsByCursor(eq(1L), eq("0000000020"), anyInt(), any(Pageable.class))).thenReturn(commentList);
 
         // When
-        List<CommentResponseDTO> responseDTOList = commentService.getAllComments(1L);
+        CommentPageResponseDTO responseDTO = commentService.getAllComments(1L, "0000000020");
 
         // Then
-        assertThat(responseDTOList).hasSize(2);
-        assertThat(responseDTOList.get(0).getContents()).isEqualTo("내용1");
-        assertThat(responseDTOList.get(1).getContents()).isEqualTo("내용2");
+        assertThat(responseDTO.getCommentList()).hasSize(1);
+        assertThat(responseDTO.getHasNext()).isFalse();
+        assertThat(responseDTO.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("댓글이 없는 게시글 조회 테스트")
+    public void 댓글없음() {
+        //given
+        userCreate();
+        postCreate();
+
+        when(postService.getValidatePost(anyLong())).thenReturn(post);
+        when(commentRepository.findThreadsByCursor(eq(1L), eq(""), anyInt(), any(Pageable.class))).thenReturn(List.of());
+
+        // When, Then
+        assertThrows(NoContentException.class, () -> commentService.getAllComments(1L, null));
     }
 
     @Test
@@ -180,6 +230,123 @@ public class CommentServiceTest {
 
         // Then
         verify(commentRepository, times(1)).delete(any(Comment.class));
+        verify(postRepository, times(1)).decreaseCommentCount(1L, 1);
+
+    }
+
+    @Test
+    @DisplayName("답글 달린 댓글 삭제 시 하위 스레드 삭제 테스트")
+    public void 답글달린댓글삭제() {
+        //given
+        userCreate();
+        postCreate();
+        post.setId(1L);
+        UserDetailsImpl userDetails = new UserDetailsImpl(user);
+        Comment comment = Comment.builder().post(post).user(user).contents("내용").build();
+        Comment.builder().post(post).user(user).contents("답글").parent(comment).build();
+
+        when(postService.getValidatePost(anyLong())).thenReturn(post);
+        when(commentRepository.findByPostIdAndId(anyLong(), anyLong())).thenReturn(Optional.of(comment));
+        when(commentRepository.deleteSubtree(1L, comment.getPath())).thenReturn(2);
+
+        // When
+        commentService.deleteComment(userDetails, 1L, 1L);
+
+        // Then
+        verify(commentRepository, times(1)).deleteLikesInSubtree(1L, comment.getPath());
+        verify(commentRepository, never()).delete(any(Comment.class));
+        verify(postRepository, times(1)).decreaseCommentCount(1L, 2);
+    }
+
+    @Test
+    @DisplayName("답글 등록 테스트")
+    public void 답글등록() {
+        //given
+        userCreate();
+        postCreate();
+        UserDetailsImpl userDetails = new UserDetailsImpl(user);
+        Comment parent = Comment.builder().post(post).user(user).contents("내용").build();
+
+        CommentRequestDTO requestDTO = new CommentRequestDTO();
+        requestDTO.setContents("답글");
+
+        when(postService.getValidatePost(anyLong())).thenReturn(post);
+        when(commentRepository.findForUpdateByPostIdAndId(1L, 1L)).thenReturn(Optional.of(parent));
+
+        // When
+        CommentResponseDTO responseDTO = commentService.createReply(userDetails, 1L, 1L, requestDTO);
+
+        // Then
+        assertThat(responseDTO.getDepth()).isEqualTo(1);
+        assertThat(parent.getLastReplyOrder()).isEqualTo(1);
+        verify(commentRepository, times(1)).save(any(Comment.class));
+        verify(postRepository, times(1)).increaseCommentCount(1L);
+    }
+
+    @Test
+    @DisplayName("답글 단계 제한 테스트")
+    public void 답글단계제한() {
+        //given
+        userCreate();
+        postCreate();
+        UserDetailsImpl userDetails = new UserDetailsImpl(user);
+        Comment parent = Comment.builder().post(post).user(user).contents("내용").build();
+        for (int depth = 1; depth <= Comment.MAX_DEPTH; depth++) {
+            parent = Comment.builder().post(post).user(user).contents("답글").parent(parent).build();
+        }
+
+        CommentRequestDTO requestDTO = new CommentRequestDTO();
+        requestDTO.setContents("답글");
+
+        when(postService.getValidatePost(anyLong())).thenReturn(post);
+        when(commentRepository.findForUpdateByPostIdAndId(1L, 1L)).thenReturn(Optional.of(parent));
+
+        // When, Then
+        assertThrows(CommentException.class, () -> commentService.createReply(userDetails, 1L, 1L, requestDTO));
+        verify(commentRepository, never()).save(any(Comment.class));
+    }
+
+    @Test
+    @DisplayName("답글 수 제한 테스트")
+    public void 답글수제한() {
+        //given
+        userCreate();
+        postCreate();
+        UserDetailsImpl userDetails = new UserDetailsImpl(user);
+        Comment parent = Comment.builder().post(post).user(user).contents("내용").build();
+        for (int i = 0; i < Comment.MAX_REPLIES; i++) {
+            Comment.builder().post(post).user(user).contents("답글").parent(parent).build();
+        }
+
+        CommentRequestDTO requestDTO = new CommentRequestDTO();
+        requestDTO.setContents("답글");
+
+        when(postService.getValidatePost(anyLong())).thenReturn(post);
+        when(commentRepository.findForUpdateByPostIdAndId(1L, 1L)).thenReturn(Optional.of(parent));
+
+        // When, Then
+        assertThrows(CommentException.class, () -> commentService.createReply(userDetails, 1L, 1L, requestDTO));
+        verify(commentRepository, never()).save(any(Comment.class));
+    }
+
+    @Test
+    @DisplayName("댓글 수 변경 시 전체 댓글 ETag 변경 테스트")
+    public void 전체댓글ETag() {
+        //given
+        LocalDateTime modifiedAt = LocalDateTime.of(2024, 6, 16, 12, 0);
+        when(commentRepository.findCommentVersionByPostId(1L))
+                .thenReturn(new CommentVersionDTO(2L, modifiedAt), new CommentVersionDTO(1L, modifiedAt));
+
+        //when
+        String before = commentService.getAllCommentsETag(1L);
+        String after = commentService.getAllCommentsETag(1L);
+
+        //then
+        assertThat(before).isNotEqualTo(after);
+        verify(postService, never()).getValidatePost(anyLong());
+    }
 
+    private CommentResponseDTO topLevelComment(long id) {
+        return new CommentResponseDTO(id, "test123456789", 1L, null, 0, String.format("%010d", id), "내용" + id, null, null);
     }
 }
@@ -0,0 +1,161 @@
+package december.spring.studywithme.service;
+
+import december.spring.studywithme.event.CommentLikedEvent;
+import december.spring.studywithme.event.PostChangedEvent;
+import december.spring.studywithme.event.PostLikedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class LikeCountAggregatorTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private LikeCountAggregator createAggregator(boolean enabled) {
+        return new LikeCountAggregator(jdbcTemplate, new TransactionTemplate(transactionManager), eventPublisher,
+                meterRegistry, enabled);
+    }
+
+    private double pending(String type) {
+        return meterRegistry.get("post.like-count.pending").tag("type", type).gauge().value();
+    }
+
+    @Test
+    @DisplayName("커밋된 좋아요 증감을 누적하여 게시글 / 댓글별 한 번의 배치 update 로 반영")
+    @SuppressWarnings("unchecked")
+    public void 증감누적반영() {
+        //given
+        LikeCountAggregator aggregator = createAggregator(true);
+        aggregator.handlePostLiked(new PostLikedEvent(2L, 1L, true));
+        aggregator.handlePostLiked(new PostLikedEvent(1L, 1L, true));
+        aggregator.handlePostLiked(new PostLikedEvent(1L, 1L, true));
+        aggregator.handlePostLiked(new PostLikedEvent(1L, 1L, true));
+        aggregator.handlePostLiked(new PostLikedEvent(1L, 1L, false));
+        aggregator.handleCommentLiked(new CommentLikedEvent(1L, 5L, 1L, false));
+        assertThat(pending("post")).isEqualTo(3);
+        assertThat(aggregator.estimatePostLikes(1L, 10L, true)).isEqualTo(13L);
+
+        //when
+        int flushed = aggregator.flush();
+
+        //then
+        ArgumentCaptor<List<Object[]>> postArgs = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<List<Object[]>> commentArgs = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith("update post"), postArgs.capture());
+        verify(jdbcTemplate).batchUpdate(startsWith("update comment"), commentArgs.capture());
+        assertThat(postArgs.getValue()).containsExactly(new Object[]{2L, 1L}, new Object[]{1L, 2L});
+        assertThat(commentArgs.getValue()).containsExactly(new Object[][]{{-1L, 5L}});
+
+        assertThat(flushed).isEqualTo(3);
+        assertThat(pending("post")).isZero();
+        assertThat(meterRegistry.get("post.like-count.flushed").tag("type", "post").counter().count()).isEqualTo(2);
+        verify(eventPublisher, times(2)).publishEvent(any(PostChangedEvent.class));
+
+        // 증감이 없으면 update 를 보내지 않고 항목을 정리한다
+        assertThat(aggregator.flush()).isZero();
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 누적하고 반영해도 증감이 유실되지 않음")
+    public void 동시누적() throws Exception {
+        //given
+        LikeCountAggregator aggregator = createAggregator(true);
+        AtomicLong applied = new AtomicLong();
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocation -> {
+            List<Object[]> batchArgs = invocation.getArgument(1);
+            batchArgs.forEach(args -> applied.addAndGet((Long) args[0]));
+            return new int[batchArgs.size()];
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        //when
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            futures.add(executor.submit(() -> {
+                for (int j = 0; j < 10000; j++) {
+                    aggregator.handlePostLiked(new PostLikedEvent(1L, 1L, true));
+                }
+            }));
+        }
+        while (futures.stream().anyMatch(future -> !future.isDone())) {
+            aggregator.flush();
+        }
+        aggregator.flush();
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+
+        //then
+        assertThat(applied.get()).isEqualTo(80000L);
+    }
+
+    @Test
+    @DisplayName("반영에 실패한 증감은 남겨 두었다가 다음 주기에 반영")
+    public void 반영실패재시도() {
+        //given
+        LikeCountAggregator aggregator = createAggregator(true);
+        aggregator.handlePostLiked(new PostLikedEvent(1L, 1L, true));
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenThrow(new DataAccessResourceFailureException("연결 실패"))
+                .thenReturn(new int[1]);
+
+        //when
+        int failed = aggregator.flush();
+
+        //then (배치 전체를 롤백하고 증감을 남겨 둔다)
+        assertThat(failed).isZero();
+        verify(transactionManager).rollback(any());
+        assertThat(pending("post")).isEqualTo(1);
+        verify(eventPublisher, never()).publishEvent(any());
+
+        assertThat(aggregator.flush()).isEqualTo(1);
+        assertThat(pending("post")).isZero();
+    }
+
+    @Test
+    @DisplayName("사용하지 않으면 증감을 누적하지 않음")
+    public void 사용안함() {
+        //given
+        LikeCountAggregator aggregator = createAggregator(false);
+
+        //when
+        aggregator.handlePostLiked(new PostLikedEvent(1L, 1L, true));
+        aggregator.scheduledFlush();
+        aggregator.close();
+
+        //then
+        assertThat(pending("post")).isZero();
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
@@ -0,0 +1,89 @@
+package december.spring.studywithme.service;
+
+import december.spring.studywithme.event.PostCountsRepairedEvent;
+import december.spring.studywithme.repository.CommentRepository;
+import december.spring.studywithme.repository.JobLockRepository;
+import december.spring.studywithme.repository.PostRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class LikeCountRepairServiceTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private LikeCountAggregator likeCountAggregator;
+
+    @Mock
+    private JobLockRepository jobLockRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Test
+    @DisplayName("write-behind 집계를 사용하면 구간마다 누적된 증감을 먼저 반영한 뒤 보정")
+    public void 반영후보정() {
+        //given
+        LikeCountRepairService repairService = new LikeCountRepairService(postRepository, commentRepository, likeCountAggregator, jobLockRepository, eventPublisher, 100);
+        when(likeCountAggregator.isEnabled()).thenReturn(true);
+        when(postRepository.findMaxId()).thenReturn(150L);
+        when(postRepository.repairLikes(anyLong(), anyLong())).thenReturn(1);
+
+        //when
+        int repaired = repairService.repairPostLikes();
+
+        //then
+        assertThat(repaired).isEqualTo(2);
+        InOrder inOrder = inOrder(likeCountAggregator, postRepository);
+        inOrder.verify(likeCountAggregator).flush();
+        inOrder.verify(postRepository).repairLikes(0L, 100L);
+        inOrder.verify(likeCountAggregator).flush();
+        inOrder.verify(postRepository).repairLikes(100L, 200L);
+        verify(eventPublisher).publishEvent(any(PostCountsRepairedEvent.class));
+    }
+
+    @Test
+    @DisplayName("write-behind 집계를 사용하지 않으면 반영 없이 보정")
+    public void 사용안함보정() {
+        //given
+        LikeCountRepairService repairService = new LikeCountRepairService(postRepository, commentRepository, likeCountAggregator, jobLockRepository, eventPublisher, 100);
+        when(commentRepository.findMaxId()).thenReturn(50L);
+
+        //when
+        repairService.repairCommentLikes();
+
+        //then
+        verify(commentRepository).repairLikes(0L, 100L);
+        verify(likeCountAggregator, never()).flush();
+    }
+
+    @Test
+    @DisplayName("다른 서버가 보정 중이면 보정하지 않음")
+    public void 잠금실패() {
+        //given
+        LikeCountRepairService repairService = new LikeCountRepairService(postRepository, commentRepository, likeCountAggregator, jobLockRepository, eventPublisher, 100);
+        when(jobLockRepository.acquire(eq(LikeCountRepairService.REPAIR_JOB), any())).thenReturn(false);
+
+        //when
+        repairService.scheduledRepair();
+
+        //then
+        verify(postRepository, never()).findMaxId();
+        verify(commentRepository, never()).findMaxId();
+    }
+}
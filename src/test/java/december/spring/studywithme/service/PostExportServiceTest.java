@@ -0,0 +1,59 @@
+package december.spring.studywithme.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import december.spring.studywithme.dto.PostResponseDTO;
+import december.spring.studywithme.repository.PostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class PostExportServiceTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    private PostExportService postExportService;
+
+    @BeforeEach
+    void setUp() {
+        postExportService = new PostExportService(postRepository, new ObjectMapper().registerModule(new JavaTimeModule()));
+    }
+
+    @Test
+    @DisplayName("게시글을 한 줄에 하나씩 NDJSON 으로 내보내고 스트림을 닫는 테스트")
+    public void 게시글내보내기() {
+        //given
+        AtomicBoolean closed = new AtomicBoolean(false);
+        Stream<PostResponseDTO> postStream = LongStream.rangeClosed(1, 3)
+                .mapToObj(id -> new PostResponseDTO(id, "test123456789", "제목" + id, "내용", 0L,
+                        LocalDateTime.of(2024, 6, 16, 12, 0), LocalDateTime.of(2024, 6, 16, 12, 0)))
+                .onClose(() -> closed.set(true));
+        when(postRepository.streamAllPostResponses()).thenReturn(postStream);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        //when
+        long count = postExportService.exportPosts(outputStream);
+
+        //then
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(count).isEqualTo(3);
+        assertThat(lines).hasSize(3);
+        assertThat(lines[0]).startsWith("{").contains("\"id\":1", "\"title\":\"제목1\"");
+        assertThat(closed).isTrue();
+    }
+}
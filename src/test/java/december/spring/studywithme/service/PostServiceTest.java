@@ -1,32 +1,50 @@
 package december.spring.studywithme.service;
 
 
+import december.spring.studywithme.cache.PostCache;
+import december.spring.studywithme.cache.PostFeedCache;
+import december.spring.studywithme.cache.PostPageCache;
+import december.spring.studywithme.dto.PostCursor;
+import december.spring.studywithme.dto.PostCursorResponseDTO;
 import december.spring.studywithme.dto.PostPageResponseDTO;
 import december.spring.studywithme.dto.PostRequestDTO;
+import december.spring.studywithme.dto.PostPreviewResponseDTO;
 import december.spring.studywithme.dto.PostResponseDTO;
 import december.spring.studywithme.entity.Post;
 import december.spring.studywithme.entity.User;
 import december.spring.studywithme.entity.UserType;
+import december.spring.studywithme.event.PostContentChangedEvent;
+import december.spring.studywithme.event.PostDeletedEvent;
+import december.spring.studywithme.exception.PageException;
 import december.spring.studywithme.exception.PostException;
 import december.spring.studywithme.repository.PostRepository;
 import december.spring.studywithme.security.UserDetailsImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,6 +53,21 @@ public class PostServiceTest {
     @Mock
     private PostRepository postRepository;
 
+    @Mock
+    private PostCountService postCountService;
+
+    @Spy
+    private PostCache postCache = new PostCache(100, Duration.ofMinutes(1), new SimpleMeterRegistry());
+
+    @Mock
+    private PostFeedCache postFeedCache;
+
+    @Mock
+    private PostPageCache postPageCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private PostService postService;
 
@@ -95,7 +128,7 @@ public class PostServiceTest {
         userCreate();
         postCreate();
 
-        when(postRepository.findById(anyLong())).thenReturn(Optional.of(post));
+        when(postRepository.findPostResponseById(anyLong())).thenReturn(Optional.of(new PostResponseDTO(post)));
 
         //when
         PostResponseDTO responseDTO = postService.getPost(id);
@@ -105,6 +138,26 @@ public class PostServiceTest {
         assertThat(responseDTO.getContents()).isEqualTo("내용");
     }
 
+    @Test
+    @DisplayName("게시글 단일 조회 캐시 테스트")
+    public void 게시글단일조회캐시(){
+        //given
+        Long id = 1L;
+        userCreate();
+        postCreate();
+
+        when(postRepository.findPostResponseById(anyLong())).thenReturn(Optional.of(new PostResponseDTO(post)));
+
+        //when
+        postService.getPost(id);
+        postService.getPost(id);
+
+        //then
+        verify(postRepository, times(1)).findPostResponseById(id);
+        assertThat(postCache.stats().hitCount()).isEqualTo(1);
+        assertThat(postCache.stats().missCount()).isEqualTo(1);
+    }
+
     @Test
     @DisplayName("게시글 단일 조회 테스트 실패")
     public void 게시글단일조회실패(){
@@ -113,7 +166,7 @@ public class PostServiceTest {
         userCreate();
         postCreate();
 
-        when(postRepository.findById(anyLong())).thenReturn(Optional.empty());
+        when(postRepository.findPostResponseById(anyLong())).thenReturn(Optional.empty());
 
         //when
         PostException exception = assertThrows(PostException.class, () ->{
@@ -124,6 +177,71 @@ public class PostServiceTest {
         assertThat(exception.getMessage()).isEqualTo("게시글이 존재하지 않습니다.");
     }
 
+    @Test
+    @DisplayName("기간 게시글 페이지 캐시 조회 테스트")
+    public void 기간게시글페이지캐시조회(){
+        //given
+        PostPageResponseDTO cachedPage = new PostPageResponseDTO();
+        when(postPageCache.findGeneration()).thenReturn(Optional.of("3"));
+        when(postPageCache.find(eq("3"), any(), any(), anyString(), anyInt())).thenReturn(Optional.of(cachedPage));
+
+        //when
+        PostPageResponseDTO responseDTO = postService.getPostPage(1, "createdAt", "2024-06-01", "2024-06-07");
+
+        //then
+        assertThat(responseDTO).isSameAs(cachedPage);
+        verify(postRepository, never()).findPostSliceByPeriod(any(), any(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("기간 게시글 페이지 조회 후 캐시 저장 테스트")
+    public void 기간게시글페이지캐시저장(){
+        //given
+        PostPreviewResponseDTO post = new PostPreviewResponseDTO(1L, "test123456789", "제목", "내용", 2, 0L, 0L, null, null);
+        when(postPageCache.findGeneration()).thenReturn(Optional.of("3"));
+        when(postPageCache.find(eq("3"), any(), any(), anyString(), anyInt())).thenReturn(Optional.empty());
+        when(postCountService.countPosts(any(), isNull())).thenReturn(1L);
+        when(postRepository.findPostSliceByStartDate(any(), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(post), PageRequest.of(0, 10), false));
+
+        //when
+        PostPageResponseDTO responseDTO = postService.getPostPage(1, "createdAt", "2024-06-01", null);
+
+        //then
+        assertThat(responseDTO.getPostList()).hasSize(1);
+        verify(postPageCache, times(1)).findGeneration();
+        verify(postPageCache, times(1)).save(eq("3"), any(), isNull(), eq("createdAt"), eq(1), eq(responseDTO));
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 게시글 페이지 조회 테스트")
+    public void 게시글페이지조회실패(){
+        //given
+        when(postCountService.countPosts(isNull(), isNull())).thenReturn(15L);
+
+        //when
+        PageException exception = assertThrows(PageException.class, () ->{
+            postService.getPostPage(3, "createdAt", null, null);
+        });
+
+        //then
+        assertThat(exception.getMessage()).isEqualTo("페이지가 존재하지 않습니다.");
+        verify(postRepository, never()).findPostSlice(any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 정렬 기준 게시글 페이지 조회 테스트")
+    public void 지원하지않는정렬기준조회(){
+        //when
+        PageException exception = assertThrows(PageException.class, () ->{
+            postService.getPostPage(1, "contents", null, null);
+        });
+
+        //then
+        assertThat(exception.getMessage()).isEqualTo("지원하지 않는 정렬 기준입니다.");
+        verifyNoInteractions(postRepository, postCountService);
+    }
+
     @Test
     @DisplayName("게시글 수정 테스트")
     public void 게시글수정(){
@@ -145,6 +263,7 @@ public class PostServiceTest {
         // Then
         assertThat(responseDTO.getTitle()).isEqualTo("제목 수정");
         assertThat(responseDTO.getContents()).isEqualTo("내용 수정");
+        verify(eventPublisher, times(1)).publishEvent(any(PostContentChangedEvent.class));
     }
 
     @Test
@@ -162,6 +281,42 @@ public class PostServiceTest {
 
         // Then
         verify(postRepository, times(1)).delete(any(Post.class));
+        verify(postCountService, times(1)).decrease(post.getCreatedAt());
+        verify(eventPublisher, times(1)).publishEvent(any(PostDeletedEvent.class));
     }
 
+    @Test
+    @DisplayName("게시글 커서 페이지 조회 테스트")
+    public void 게시글커서페이지조회(){
+        //given
+        List<PostPreviewResponseDTO> postList = new ArrayList<>();
+        for (long i = 11; i >= 1; i--) {
+            postList.add(new PostPreviewResponseDTO(i, "test123456789", "제목", "내용", 2, 0L, 0L, null, null));
+        }
+
+        when(postRepository.findPostsByLikesCursor(any(), any(), anyLong(), anyLong(), any(Pageable.class))).thenReturn(postList);
+
+        //when
+        PostCursorResponseDTO responseDTO = postService.getPostCursorPage(null, "likes", null, null);
+
+        //then
+        assertThat(responseDTO.getPostList()).hasSize(10);
+        assertThat(responseDTO.getHasNext()).isTrue();
+
+        PostCursor nextCursor = PostCursor.decode(responseDTO.getNextCursor(), "likes");
+        assertThat(nextCursor.getId()).isEqualTo(2L);
+        assertThat(nextCursor.getLikes()).isEqualTo(0L);
+    }
+
+    @Test
+    @DisplayName("게시글 커서 페이지 조회 테스트 실패")
+    public void 게시글커서페이지조회실패(){
+        //when
+        PageException exception = assertThrows(PageException.class, () ->{
+            postService.getPostCursorPage("invalid-cursor", "createdAt", null, null);
+        });
+
+        //then
+        assertThat(exception.getMessage()).isEqualTo("커서가 올바르지 않습니다.");
+    }
 }
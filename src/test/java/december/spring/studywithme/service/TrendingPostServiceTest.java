@@ -0,0 +1,107 @@
+package december.spring.studywithme.service;
+
+import december.spring.studywithme.dto.PostPreviewResponseDTO;
+import december.spring.studywithme.event.PostDeletedEvent;
+import december.spring.studywithme.event.PostLikedEvent;
+import december.spring.studywithme.repository.PostRepository;
+import december.spring.studywithme.repository.TrendingPostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.doubleThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TrendingPostServiceTest {
+
+    @Mock
+    private TrendingPostRepository trendingPostRepository;
+
+    @Mock
+    private PostRepository postRepository;
+
+    private TrendingPostService trendingPostService;
+
+    @BeforeEach
+    void setUp() {
+        trendingPostService = new TrendingPostService(trendingPostRepository, postRepository,
+                Duration.ofMinutes(10), Duration.ofHours(1));
+    }
+
+    private PostPreviewResponseDTO post(Long id) {
+        return new PostPreviewResponseDTO(id, "test123456789", "제목" + id, "내용", 2, 0L, 0L, LocalDateTime.now(), LocalDateTime.now());
+    }
+
+    @Test
+    @DisplayName("인기 게시글 순위 순서 유지 테스트")
+    public void 인기게시글조회() {
+        //given
+        when(trendingPostRepository.findTopPostIds(3)).thenReturn(List.of(3L, 1L, 2L));
+        when(postRepository.findPostPreviewsInOrder(any())).thenCallRealMethod();
+        when(postRepository.findPostPreviewsByIdIn(List.of(3L, 1L, 2L))).thenReturn(List.of(post(1L), post(2L), post(3L)));
+
+        //when
+        List<PostPreviewResponseDTO> postList = trendingPostService.getTrendingPosts(3);
+
+        //then
+        assertThat(postList).extracting(PostPreviewResponseDTO::getId).containsExactly(3L, 1L, 2L);
+        verify(postRepository, times(1)).findPostPreviewsByIdIn(any());
+    }
+
+    @Test
+    @DisplayName("순위가 비어 있으면 게시글을 조회하지 않는 테스트")
+    public void 인기게시글없음() {
+        //given
+        when(trendingPostRepository.findTopPostIds(50)).thenReturn(List.of());
+        when(postRepository.findPostPreviewsInOrder(any())).thenCallRealMethod();
+
+        //then
+        assertThat(trendingPostService.getTrendingPosts(100)).isEmpty();
+        verify(postRepository, never()).findPostPreviewsByIdIn(any());
+    }
+
+    @Test
+    @DisplayName("좋아요 취소 시 점수 감소 테스트")
+    public void 좋아요취소점수() {
+        //when
+        trendingPostService.handlePostLiked(new PostLikedEvent(1L, 1L, false));
+
+        //then
+        verify(trendingPostRepository, times(1)).increaseScore(1L, -1);
+    }
+
+    @Test
+    @DisplayName("게시글 삭제 시 순위에서 제거 테스트")
+    public void 삭제게시글제거() {
+        //when
+        trendingPostService.handlePostDeleted(new PostDeletedEvent(1L));
+
+        //then
+        verify(trendingPostRepository, times(1)).removePost(1L);
+    }
+
+    @Test
+    @DisplayName("감쇠 비율 계산 및 잠금 획득 실패 시 감쇠 생략 테스트")
+    public void 점수감쇠() {
+        //given
+        when(trendingPostRepository.acquireDecayLock(any())).thenReturn(true, false);
+
+        //when
+        trendingPostService.decayScores();
+        trendingPostService.decayScores();
+
+        //then (10분 / 1시간 반감기 => 0.5^(1/6))
+        verify(trendingPostRepository, times(1)).decay(doubleThat(factor ->
+                Math.abs(factor - Math.pow(0.5, 1.0 / 6)) < 1e-9));
+    }
+}